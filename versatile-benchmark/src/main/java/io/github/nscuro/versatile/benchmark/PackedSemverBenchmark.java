@@ -0,0 +1,88 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.benchmark;
+
+import io.github.nscuro.versatile.PackedSemverRanges;
+import io.github.nscuro.versatile.Vers;
+import io.github.nscuro.versatile.VersionFactory;
+import io.github.nscuro.versatile.spi.Version;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PackedSemverBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rangeCount;
+
+    private List<Vers> ranges;
+    private PackedSemverRanges packedRanges;
+    private Version testedVersion;
+
+    @Setup
+    public void setup() {
+        this.ranges = new ArrayList<>(rangeCount);
+        for (int i = 0; i < rangeCount; i++) {
+            ranges.add(Vers.parse("vers:npm/>=%d.%d.0|<%d.%d.0".formatted(i % 10, i % 97, i % 10, i % 97 + 1)));
+        }
+        this.packedRanges = PackedSemverRanges.of(ranges);
+        this.testedVersion = VersionFactory.forScheme("npm", "5.42.1");
+    }
+
+    @Benchmark
+    public BitSet matchIntervals() {
+        final var result = new BitSet(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i).intervals().getFirst().contains(testedVersion)) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+    @Benchmark
+    public BitSet matchPacked() {
+        return packedRanges.matching(testedVersion);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public BitSet matchPackedVectorized() {
+        return packedRanges.matching(testedVersion);
+    }
+}
@@ -18,6 +18,7 @@
  */
 package io.github.nscuro.versatile.benchmark;
 
+import io.github.nscuro.versatile.CompiledVers;
 import io.github.nscuro.versatile.Vers;
 import java.util.concurrent.TimeUnit;
 import org.jspecify.annotations.Nullable;
@@ -61,6 +62,7 @@ public class VersContainsBenchmark {
     private String scheme;
 
     private Vers vers;
+    private CompiledVers compiledVers;
     private String testedVersion;
 
     @Setup
@@ -71,10 +73,16 @@ public class VersContainsBenchmark {
 
         final String constraints = "SINGLE".equals(shape) ? ">=" + lower : ">=" + lower + "|<" + upper;
         this.vers = Vers.parse("vers:" + scheme + "/" + constraints);
+        this.compiledVers = vers.compile();
     }
 
     @Benchmark
     public boolean contains() {
         return vers.contains(testedVersion);
     }
+
+    @Benchmark
+    public boolean containsCompiled() {
+        return compiledVers.contains(testedVersion);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.benchmark;
+
+import io.github.nscuro.versatile.Vers;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures operations on large ranges, as published by distribution security trackers.
+ * <p>
+ * Kept separate from {@link VersOperationsBenchmark}, such that the constraint count
+ * does not multiply the number of its measurements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class VersLargeRangeBenchmark {
+
+    @Param({
+        "apk",
+        "cargo",
+        "composer",
+        "deb",
+        "gem",
+        "generic",
+        "golang",
+        "maven",
+        "npm",
+        "nuget",
+        "pypi",
+        "rpm",
+    })
+    private String scheme;
+
+    @Param({"10", "100", "1000"})
+    private int constraintCount;
+
+    private String largeVersStr;
+    private Vers largeVers;
+
+    @Setup
+    public void setup() {
+        this.largeVersStr = largeRange(scheme, constraintCount);
+        this.largeVers = Vers.parseLenient(largeVersStr);
+    }
+
+    @Benchmark
+    public Vers simplifyLarge() {
+        return largeVers.simplify();
+    }
+
+    @Benchmark
+    public String canonicalString() {
+        return largeVers.toString();
+    }
+
+    @Benchmark
+    public String canonicalStringFirstCall() {
+        return Vers.parseLenient(largeVersStr).toString();
+    }
+
+    @Benchmark
+    public Vers parseLarge() {
+        return Vers.parseLenient(largeVersStr);
+    }
+
+    /**
+     * Builds a range resembling those generated by distribution security trackers,
+     * which repeat redundant bounds for every affected branch.
+     */
+    private static String largeRange(String scheme, int constraintCount) {
+        final var constraints = new StringJoiner("|", "vers:%s/".formatted(scheme), "");
+        for (int i = 0; i < constraintCount; i++) {
+            final int minor = i / 5;
+            constraints.add(switch (i % 5) {
+                case 0 -> ">=1.%d.0".formatted(minor);
+                case 1 -> ">=1.%d.1".formatted(minor);
+                case 2 -> "!=1.%d.2".formatted(minor);
+                case 3 -> "<1.%d.3".formatted(minor);
+                default -> "<1.%d.4".formatted(minor);
+            });
+        }
+
+        return constraints.toString();
+    }
+}
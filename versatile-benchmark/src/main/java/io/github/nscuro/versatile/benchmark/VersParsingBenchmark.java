@@ -18,7 +18,9 @@
  */
 package io.github.nscuro.versatile.benchmark;
 
+import io.github.nscuro.versatile.ParseResult;
 import io.github.nscuro.versatile.Vers;
+import io.github.nscuro.versatile.VersException;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -58,11 +60,13 @@ public class VersParsingBenchmark {
 
     private String canonicalRange;
     private String nonCanonicalRange;
+    private String invalidRange;
 
     @Setup
     public void setup() {
         this.canonicalRange = "vers:%s/>=1.0.0|<2.0.0|!=2.5.0|>=3.0.0|<4.0.0".formatted(scheme);
         this.nonCanonicalRange = "vers:%s/<4.0.0|>=3.0.0|!=2.5.0|<2.0.0|>=1.0.0".formatted(scheme);
+        this.invalidRange = "vers:%s/>=1.0.0|<2.0.0|<3.0.0".formatted(scheme);
     }
 
     @Benchmark
@@ -70,6 +74,11 @@ public class VersParsingBenchmark {
         return Vers.parse(canonicalRange);
     }
 
+    @Benchmark
+    public Vers parseLazy() {
+        return Vers.parseLazy(canonicalRange);
+    }
+
     @Benchmark
     public Vers parseLenientCanonical() {
         return Vers.parseLenient(canonicalRange);
@@ -79,4 +88,18 @@ public class VersParsingBenchmark {
     public Vers parseLenientNonCanonical() {
         return Vers.parseLenient(nonCanonicalRange);
     }
+
+    @Benchmark
+    public Object parseStrictInvalid() {
+        try {
+            return Vers.parse(invalidRange);
+        } catch (VersException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ParseResult<Vers> tryParseStrictInvalid() {
+        return Vers.tryParse(invalidRange);
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Matches whole inventories of package versions against whole sets of advisory {@link Vers} ranges.
+ * <p>
+ * Rows of both sides are grouped by package. For each package, component versions and the intervals of
+ * all advisory ranges are sorted once, and matches are emitted by a single sort-merge sweep over both.
+ * Packages are processed in parallel on a {@link ForkJoinPool}.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 0.24.0
+ */
+public final class BulkMatcher {
+
+    /**
+     * A component of an inventory.
+     *
+     * @param packageKey The key identifying the package, e.g. a Package URL without version
+     * @param version    The version of the component, which is created using the scheme of
+     *                   the advisory ranges of the same package
+     * @param component  The component, to be passed to the match consumer
+     * @param <K>        Type of the package key
+     * @param <C>        Type of the component
+     */
+    public record InventoryRow<K, C>(K packageKey, String version, C component) {
+
+        public InventoryRow {
+            requireNonNull(packageKey, "packageKey must not be null");
+            requireNonNull(version, "version must not be null");
+        }
+    }
+
+    /**
+     * A range of versions of a package affected by an advisory.
+     *
+     * @param packageKey The key identifying the package
+     * @param vers       The affected range
+     * @param advisory   The advisory, to be passed to the match consumer
+     * @param <K>        Type of the package key
+     * @param <A>        Type of the advisory
+     */
+    public record AdvisoryRow<K, A>(K packageKey, Vers vers, A advisory) {
+
+        public AdvisoryRow {
+            requireNonNull(packageKey, "packageKey must not be null");
+            requireNonNull(vers, "vers must not be null");
+        }
+    }
+
+    private record VersionedComponent<C>(Version version, C component) {}
+
+    private record AdvisoryInterval<A>(Interval interval, A advisory) {}
+
+    private final ForkJoinPool pool;
+    private final VersionFactory versionFactory;
+
+    private BulkMatcher(ForkJoinPool pool, VersionFactory versionFactory) {
+        this.pool = pool;
+        this.versionFactory = versionFactory;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Matches all components of an inventory against all advisory ranges of the same package.
+     * <p>
+     * Components whose version is invalid for the scheme of a range are not matched against it.
+     * <p>
+     * {@code matchConsumer} is invoked concurrently from multiple threads, and must thus be thread-safe.
+     * Matches of the same package are emitted by a single thread, in ascending order of component versions.
+     *
+     * @param inventory     The components to match
+     * @param advisories    The advisory ranges to match against
+     * @param matchConsumer Consumer of each component and advisory whose range contains the component's version
+     * @param <K>           Type of the package keys
+     * @param <C>           Type of the components
+     * @param <A>           Type of the advisories
+     * @throws VersException When any of the advisory ranges is invalid
+     */
+    public <K, C, A> void match(
+            Stream<InventoryRow<K, C>> inventory,
+            Stream<AdvisoryRow<K, A>> advisories,
+            BiConsumer<? super C, ? super A> matchConsumer) {
+        requireNonNull(inventory, "inventory must not be null");
+        requireNonNull(advisories, "advisories must not be null");
+        requireNonNull(matchConsumer, "matchConsumer must not be null");
+
+        final Map<K, List<AdvisoryRow<K, A>>> advisoriesByPackage =
+                advisories.collect(Collectors.groupingBy(AdvisoryRow::packageKey));
+
+        // Components of packages without advisories can never match, so they are not retained.
+        final Map<K, List<InventoryRow<K, C>>> inventoryByPackage = inventory
+                .filter(row -> advisoriesByPackage.containsKey(row.packageKey()))
+                .collect(Collectors.groupingBy(InventoryRow::packageKey));
+
+        final var tasks = new ArrayList<ForkJoinTask<?>>(inventoryByPackage.size());
+        for (final Map.Entry<K, List<InventoryRow<K, C>>> entry : inventoryByPackage.entrySet()) {
+            final List<AdvisoryRow<K, A>> packageAdvisories = advisoriesByPackage.get(entry.getKey());
+            tasks.add(ForkJoinTask.adapt(
+                    () -> matchPackage(entry.getValue(), requireNonNull(packageAdvisories), matchConsumer)));
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    private <C, A> void matchPackage(
+            List<? extends InventoryRow<?, C>> rows,
+            List<? extends AdvisoryRow<?, A>> advisories,
+            BiConsumer<? super C, ? super A> matchConsumer) {
+        final Map<String, List<AdvisoryRow<?, A>>> advisoriesByScheme = advisories.stream()
+                .collect(Collectors.groupingBy(advisory -> advisory.vers().scheme()));
+
+        for (final Map.Entry<String, List<AdvisoryRow<?, A>>> entry : advisoriesByScheme.entrySet()) {
+            final String scheme = entry.getKey();
+
+            final var components = new ArrayList<VersionedComponent<C>>(rows.size());
+            for (final InventoryRow<?, C> row : rows) {
+                final VersionParseResult parseResult = versionFactory.tryParse(scheme, row.version());
+                if (parseResult.isSuccess()) {
+                    components.add(new VersionedComponent<>(parseResult.orElseThrow(), row.component()));
+                }
+            }
+            components.sort((a, b) -> a.version().compareTo(b.version()));
+
+            final var intervals = new ArrayList<AdvisoryInterval<A>>();
+            for (final AdvisoryRow<?, A> advisory : entry.getValue()) {
+                for (final Interval interval : advisory.vers().intervals()) {
+                    intervals.add(new AdvisoryInterval<>(interval, advisory.advisory()));
+                }
+            }
+            intervals.sort((a, b) -> Interval.compareLower(a.interval(), b.interval()));
+
+            sweep(components, intervals, matchConsumer);
+        }
+    }
+
+    /**
+     * Sweeps over components and intervals, both sorted in ascending order, keeping track of the
+     * intervals that have started but not yet ended in a heap ordered by their upper endpoint.
+     */
+    private static <C, A> void sweep(
+            List<VersionedComponent<C>> components,
+            List<AdvisoryInterval<A>> intervals,
+            BiConsumer<? super C, ? super A> matchConsumer) {
+        final var activeIntervals = new PriorityQueue<AdvisoryInterval<A>>(
+                (a, b) -> Interval.compareUpper(a.interval(), b.interval()));
+
+        int nextInterval = 0;
+        for (final VersionedComponent<C> component : components) {
+            final Version version = component.version();
+
+            while (nextInterval < intervals.size()
+                    && !intervals.get(nextInterval).interval().isAbove(version)) {
+                activeIntervals.add(intervals.get(nextInterval++));
+            }
+            while (!activeIntervals.isEmpty()
+                    && requireNonNull(activeIntervals.peek()).interval().isBelow(version)) {
+                activeIntervals.poll();
+            }
+
+            // All remaining intervals start at or before the version, and end at or after it.
+            // Intervals of the same range are disjoint, so each advisory is emitted at most once.
+            for (final AdvisoryInterval<A> activeInterval : activeIntervals) {
+                matchConsumer.accept(component.component(), activeInterval.advisory());
+            }
+        }
+    }
+
+    public static final class Builder {
+
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private VersionFactory versionFactory = VersionFactory.defaultFactory();
+
+        private Builder() {}
+
+        /**
+         * @param pool The pool to process packages in parallel on, by default the common pool
+         */
+        public Builder withPool(ForkJoinPool pool) {
+            this.pool = requireNonNull(pool, "pool must not be null");
+            return this;
+        }
+
+        /**
+         * @param versionFactory The {@link VersionFactory} to create component versions with
+         */
+        public Builder withVersionFactory(VersionFactory versionFactory) {
+            this.versionFactory = requireNonNull(versionFactory, "versionFactory must not be null");
+            return this;
+        }
+
+        public BulkMatcher build() {
+            return new BulkMatcher(pool, versionFactory);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+/**
+ * A snapshot of a cache's statistics.
+ *
+ * @param hitCount      Number of lookups that found a cached value
+ * @param missCount     Number of lookups that did not find a cached value
+ * @param evictionCount Number of entries evicted to keep the cache within its maximum size
+ * @since 0.24.0
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+    /**
+     * @return Total number of lookups
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * @return Ratio of lookups that found a cached value, or {@code 1.0} if there were no lookups yet
+     */
+    public double hitRate() {
+        final long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Vers} compiled into a predicate that is specialized for its bounds.
+ * <p>
+ * Bounds are baked into the predicate as constants, and compared against in ascending order, without
+ * any iteration. For the JIT to inline the entire membership test into the caller, compiled ranges
+ * should be held in {@code static final} fields.
+ *
+ * @see Vers#compile()
+ * @since 0.24.0
+ */
+public interface CompiledVers extends Predicate<Version> {
+
+    /**
+     * @return The range this predicate was compiled from
+     */
+    Vers vers();
+
+    /**
+     * Behaves exactly like {@link Vers#contains(String)}.
+     *
+     * @param versionStr The version to check
+     * @return {@code true} when the range contains the version
+     */
+    default boolean contains(String versionStr) {
+        return contains(versionStr, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * Behaves exactly like {@link Vers#contains(String, VersionFactory)}.
+     *
+     * @param versionStr     The version to check
+     * @param versionFactory The {@link VersionFactory} to create the version with
+     * @return {@code true} when the range contains the version
+     */
+    default boolean contains(String versionStr, VersionFactory versionFactory) {
+        return test(versionFactory.parse(vers().scheme(), versionStr));
+    }
+}
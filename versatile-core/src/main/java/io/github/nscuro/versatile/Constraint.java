@@ -20,16 +20,26 @@ package io.github.nscuro.versatile;
 
 import static java.util.Objects.requireNonNull;
 
+import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
 import java.util.Objects;
-import java.util.regex.Pattern;
 import org.jspecify.annotations.Nullable;
 
 public class Constraint implements Comparable<Constraint> {
 
     private final String scheme;
     private final Comparator comparator;
-    private final @Nullable Version version;
+    private volatile @Nullable Version version;
+
+    // Only set for constraints whose version is created lazily, see Vers#parseLazy.
+    private final @Nullable String versionStr;
+    private final @Nullable VersionFactory versionFactory;
+
+    /**
+     * Cached result of {@link #toString()}.
+     */
+    private @Nullable String string;
 
     Constraint(String scheme, Comparator comparator, @Nullable Version version) {
         requireNonNull(scheme, "scheme must not be null");
@@ -43,9 +53,41 @@ public class Constraint implements Comparable<Constraint> {
         this.scheme = scheme;
         this.comparator = comparator;
         this.version = version;
+        this.versionStr = null;
+        this.versionFactory = null;
+    }
+
+    /**
+     * Creates a constraint whose {@link Version} is only created when it is first needed.
+     */
+    private Constraint(String scheme, Comparator comparator, String versionStr, VersionFactory versionFactory) {
+        this.scheme = scheme;
+        this.comparator = comparator;
+        this.version = null;
+        this.versionStr = versionStr;
+        this.versionFactory = versionFactory;
     }
 
     static Constraint parse(String scheme, String constraintStr, boolean strict) {
+        return parse(scheme, constraintStr, strict, VersionFactory.defaultFactory());
+    }
+
+    static Constraint parse(String scheme, String constraintStr, boolean strict, VersionFactory versionFactory) {
+        return tryParse(scheme, constraintStr, strict, /* lazy */ false, versionFactory, 0)
+                .orElseThrow();
+    }
+
+    /**
+     * @param lazy   Whether to defer creation of the constraint's {@link Version} until it is first needed
+     * @param offset Offset of {@code constraintStr} in the surrounding input, used for error reporting
+     */
+    static ParseResult<Constraint> tryParse(
+            String scheme,
+            String constraintStr,
+            boolean strict,
+            boolean lazy,
+            VersionFactory versionFactory,
+            int offset) {
         final Comparator comparator;
         if (constraintStr.startsWith("<=")) {
             comparator = Comparator.LESS_THAN_OR_EQUAL;
@@ -61,16 +103,38 @@ public class Constraint implements Comparable<Constraint> {
             comparator = Comparator.EQUAL;
         }
 
-        final String versionStr = constraintStr
-                .replaceFirst("^" + Pattern.quote(comparator.operator()), "")
-                .trim();
+        final int versionOffset =
+                constraintStr.startsWith(comparator.operator()) ? comparator.operator().length() : 0;
+        final String versionStr = constraintStr.substring(versionOffset).trim();
         if (versionStr.isBlank()) {
-            throw new VersException("comparator %s is not allowed without version".formatted(comparator));
+            return ParseResult.failure(
+                    ParseResult.ErrorCode.MISSING_VERSION,
+                    offset + versionOffset,
+                    () -> new VersException("comparator %s is not allowed without version".formatted(comparator)));
         }
 
-        final Version version = VersionFactory.forScheme(scheme, PercentEncoding.decode(versionStr, strict));
+        final String decodedVersionStr = PercentEncoding.tryDecode(versionStr, strict);
+        if (decodedVersionStr == null) {
+            return ParseResult.failure(
+                    ParseResult.ErrorCode.INVALID_PERCENT_ENCODING,
+                    offset + versionOffset,
+                    () -> PercentEncoding.decodingError(versionStr, strict));
+        }
+
+        if (lazy) {
+            return ParseResult.success(new Constraint(scheme, comparator, decodedVersionStr, versionFactory));
+        }
+
+        final VersionParseResult versionResult = versionFactory.tryParse(scheme, decodedVersionStr);
+        final Version version = versionResult.version().orElse(null);
+        if (version == null) {
+            return ParseResult.failure(
+                    ParseResult.ErrorCode.INVALID_VERSION,
+                    offset + versionOffset,
+                    () -> new InvalidVersionException(decodedVersionStr, requireNonNull(versionResult.reason())));
+        }
 
-        return new Constraint(scheme, comparator, version);
+        return ParseResult.success(new Constraint(scheme, comparator, version));
     }
 
     boolean matches(Version version) {
@@ -82,12 +146,12 @@ public class Constraint implements Comparable<Constraint> {
         }
 
         return switch (comparator) {
-            case LESS_THAN -> requireNonNull(this.version).compareTo(version) > 0;
-            case LESS_THAN_OR_EQUAL -> requireNonNull(this.version).compareTo(version) >= 0;
-            case GREATER_THAN_OR_EQUAL -> requireNonNull(this.version).compareTo(version) <= 0;
-            case GREATER_THAN -> requireNonNull(this.version).compareTo(version) < 0;
-            case EQUAL -> requireNonNull(this.version).compareTo(version) == 0;
-            case NOT_EQUAL -> requireNonNull(this.version).compareTo(version) != 0;
+            case LESS_THAN -> requireNonNull(version()).compareTo(version) > 0;
+            case LESS_THAN_OR_EQUAL -> requireNonNull(version()).compareTo(version) >= 0;
+            case GREATER_THAN_OR_EQUAL -> requireNonNull(version()).compareTo(version) <= 0;
+            case GREATER_THAN -> requireNonNull(version()).compareTo(version) < 0;
+            case EQUAL -> requireNonNull(version()).compareTo(version) == 0;
+            case NOT_EQUAL -> requireNonNull(version()).compareTo(version) != 0;
             case WILDCARD -> true;
         };
     }
@@ -99,6 +163,7 @@ public class Constraint implements Comparable<Constraint> {
      */
     @Nullable
     Constraint invert() {
+        final Version version = version();
         return switch (comparator) {
             case LESS_THAN -> new Constraint(scheme, Comparator.GREATER_THAN_OR_EQUAL, version);
             case LESS_THAN_OR_EQUAL -> new Constraint(scheme, Comparator.GREATER_THAN, version);
@@ -115,11 +180,13 @@ public class Constraint implements Comparable<Constraint> {
         // NB: Only a wildcard constraint has no version.
         // A wildcard is valid only as the sole constraint of a vers range,
         // so this branch is never reached for a valid vers.
-        if (this.version == null || other.version == null) {
-            return Boolean.compare(this.version != null, other.version != null);
+        final Version version = this.version();
+        final Version otherVersion = other.version();
+        if (version == null || otherVersion == null) {
+            return Boolean.compare(version != null, otherVersion != null);
         }
 
-        return this.version.compareTo(other.version);
+        return version.compareTo(otherVersion);
     }
 
     public String scheme() {
@@ -130,19 +197,70 @@ public class Constraint implements Comparable<Constraint> {
         return comparator;
     }
 
+    /**
+     * @return The {@link Version} of this constraint, or {@code null} if this is a wildcard constraint
+     * @throws io.github.nscuro.versatile.spi.InvalidVersionException When the version of a lazily parsed
+     *                                                                 constraint turns out to be invalid
+     * @see Vers#parseLazy(String)
+     */
     public @Nullable Version version() {
+        Version version = this.version;
+        if (version == null && versionStr != null) {
+            // Benign race: concurrent callers may create equal versions, any of which can be retained.
+            version = requireNonNull(versionFactory).parse(scheme, versionStr);
+            this.version = version;
+        }
+
         return version;
     }
 
+    /**
+     * Constraints are equal when their schemes and comparators are equal, and their versions are
+     * {@link Version#equals(Object) equal}. For example, {@code <1.0} and {@code <1.0.0} are equal
+     * constraints of the {@code maven} scheme.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final Constraint other)) {
+            return false;
+        }
+
+        return scheme.equals(other.scheme)
+                && comparator == other.comparator
+                && Objects.equals(version(), other.version());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheme, comparator, version());
+    }
+
+    /**
+     * @return The canonical, percent-encoded form of this constraint, which is computed once and cached
+     */
     @Override
     public String toString() {
+        String string = this.string;
+        if (string == null) {
+            // Benign race: the string is deterministic, and Strings are safely published.
+            string = toCanonicalString();
+            this.string = string;
+        }
+
+        return string;
+    }
+
+    private String toCanonicalString() {
         if (comparator == Comparator.WILDCARD) {
             // Wildcard cannot have a version.
             return Comparator.WILDCARD.operator();
         }
 
         final String versionStr = PercentEncoding.encode(
-                requireNonNull(version, "version must not be null").toString());
+                requireNonNull(version(), "version must not be null").toString());
 
         return comparator != Comparator.EQUAL ? comparator.operator() + versionStr : versionStr;
     }
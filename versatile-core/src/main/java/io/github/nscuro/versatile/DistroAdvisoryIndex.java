@@ -0,0 +1,210 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An index of advisory ranges, partitioned by Linux distribution release and package.
+ * <p>
+ * OSV ecosystems of Linux distributions carry the release they apply to, e.g. {@code Debian:11}
+ * or {@code Alpine:v3.18}. Ranges of one release are only ever matched against versions of the same
+ * release, which avoids false matches across releases, and prunes the ranges to evaluate per lookup.
+ * Ranges without a release apply to all releases of their distribution.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @param <K> Type of the package keys
+ * @param <A> Type of the advisories
+ * @since 0.24.0
+ */
+public final class DistroAdvisoryIndex<K, A> {
+
+    /**
+     * A partition of advisory ranges.
+     *
+     * @param distro  The distribution, e.g. {@code Debian}, or the ecosystem for
+     *                non-distribution ecosystems, e.g. {@code npm}
+     * @param release The release of the distribution, e.g. {@code 11}, or {@code null} when not applicable
+     */
+    public record Partition(String distro, @Nullable String release) {
+
+        public Partition {
+            requireNonNull(distro, "distro must not be null");
+        }
+
+        /**
+         * @param ecosystem The OSV ecosystem, e.g. {@code Ubuntu:22.04:LTS}
+         * @return The {@link Partition} of the ecosystem
+         * @see VersUtils#releaseFromOsvEcosystem(String)
+         */
+        public static Partition ofOsvEcosystem(String ecosystem) {
+            requireNonNull(ecosystem, "ecosystem must not be null");
+
+            final Optional<String> release = VersUtils.releaseFromOsvEcosystem(ecosystem);
+            if (release.isEmpty()) {
+                // Treat an empty release suffix, e.g. in "Debian:", like no release at all.
+                return new Partition(
+                        ecosystem.endsWith(":") ? ecosystem.substring(0, ecosystem.length() - 1) : ecosystem, null);
+            }
+
+            return new Partition(ecosystem.substring(0, ecosystem.indexOf(':')), release.get());
+        }
+
+        private Partition withoutRelease() {
+            return new Partition(distro, null);
+        }
+    }
+
+    private record Key<K>(Partition partition, K packageKey) {}
+
+    private record Range<A>(Vers vers, A advisory) {}
+
+    private final Map<Key<K>, List<Range<A>>> rangesByKey;
+    private final VersionFactory versionFactory;
+
+    private DistroAdvisoryIndex(Map<Key<K>, List<Range<A>>> rangesByKey, VersionFactory versionFactory) {
+        this.rangesByKey = rangesByKey;
+        this.versionFactory = versionFactory;
+    }
+
+    public static <K, A> Builder<K, A> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Versions that are invalid for the scheme of a range are not matched by it.
+     *
+     * @param partition  The partition the version belongs to, e.g. the distribution release of a container image
+     * @param packageKey The key identifying the package
+     * @param versionStr The version of the package
+     * @return The advisories whose range of the partition, or of the partition's distribution as a whole,
+     * contains the version
+     */
+    public List<A> match(Partition partition, K packageKey, String versionStr) {
+        requireNonNull(partition, "partition must not be null");
+        requireNonNull(packageKey, "packageKey must not be null");
+        requireNonNull(versionStr, "versionStr must not be null");
+
+        final var matches = new ArrayList<A>();
+        final var versionByScheme = new HashMap<String, Optional<Version>>();
+        for (final Range<A> range : candidates(partition, packageKey)) {
+            final Optional<Version> version = versionByScheme.computeIfAbsent(
+                    range.vers().scheme(), scheme -> versionFactory.tryParse(scheme, versionStr).version());
+            if (version.isPresent() && Intervals.contains(range.vers().intervals(), version.get())) {
+                matches.add(range.advisory());
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * @param partition  The partition the version belongs to
+     * @param packageKey The key identifying the package
+     * @return The number of ranges that {@link #match(Partition, Object, String)} evaluates
+     */
+    public int candidateCount(Partition partition, K packageKey) {
+        return candidates(partition, packageKey).size();
+    }
+
+    private List<Range<A>> candidates(Partition partition, K packageKey) {
+        final List<Range<A>> releaseRanges = rangesByKey.getOrDefault(new Key<>(partition, packageKey), List.of());
+        if (partition.release() == null) {
+            return releaseRanges;
+        }
+
+        final List<Range<A>> distroRanges =
+                rangesByKey.getOrDefault(new Key<>(partition.withoutRelease(), packageKey), List.of());
+        if (distroRanges.isEmpty()) {
+            return releaseRanges;
+        } else if (releaseRanges.isEmpty()) {
+            return distroRanges;
+        }
+
+        final var ranges = new ArrayList<Range<A>>(releaseRanges.size() + distroRanges.size());
+        ranges.addAll(releaseRanges);
+        ranges.addAll(distroRanges);
+        return ranges;
+    }
+
+    public static final class Builder<K, A> {
+
+        private final Map<Key<K>, List<Range<A>>> rangesByKey = new HashMap<>();
+        private VersionFactory versionFactory = VersionFactory.defaultFactory();
+
+        private Builder() {}
+
+        /**
+         * @param versionFactory The {@link VersionFactory} to create versions with upon lookup
+         */
+        public Builder<K, A> withVersionFactory(VersionFactory versionFactory) {
+            this.versionFactory = requireNonNull(versionFactory, "versionFactory must not be null");
+            return this;
+        }
+
+        /**
+         * @param ecosystem  The OSV ecosystem the range was published for, e.g. {@code Debian:11}
+         * @param packageKey The key identifying the package
+         * @param vers       The affected range
+         * @param advisory   The advisory
+         * @throws VersException When {@code vers} is invalid
+         * @see Partition#ofOsvEcosystem(String)
+         */
+        public Builder<K, A> withRange(String ecosystem, K packageKey, Vers vers, A advisory) {
+            return withRange(Partition.ofOsvEcosystem(ecosystem), packageKey, vers, advisory);
+        }
+
+        /**
+         * @param partition  The partition the range applies to
+         * @param packageKey The key identifying the package
+         * @param vers       The affected range
+         * @param advisory   The advisory
+         * @throws VersException When {@code vers} is invalid
+         */
+        public Builder<K, A> withRange(Partition partition, K packageKey, Vers vers, A advisory) {
+            requireNonNull(partition, "partition must not be null");
+            requireNonNull(packageKey, "packageKey must not be null");
+            requireNonNull(vers, "vers must not be null");
+            requireNonNull(advisory, "advisory must not be null");
+
+            // Decompose eagerly, such that invalid ranges are rejected here rather than upon lookup.
+            vers.intervals();
+
+            rangesByKey
+                    .computeIfAbsent(new Key<>(partition, packageKey), ignored -> new ArrayList<>())
+                    .add(new Range<>(vers, advisory));
+            return this;
+        }
+
+        public DistroAdvisoryIndex<K, A> build() {
+            final var ranges = new HashMap<Key<K>, List<Range<A>>>(rangesByKey.size());
+            rangesByKey.forEach((key, keyRanges) -> ranges.put(key, List.copyOf(keyRanges)));
+            return new DistroAdvisoryIndex<>(ranges, versionFactory);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.BulkMatcher.InventoryRow;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps track of which components of an inventory are matched by which advisory ranges, and re-evaluates
+ * only the affected components when advisory ranges are added, modified, or removed.
+ * <p>
+ * Components are looked up in an {@link InventoryIndex}, such that re-evaluating an advisory range
+ * costs a binary search per interval of the range, plus the number of components it matches.
+ * <p>
+ * Instances are <em>not</em> thread-safe.
+ *
+ * @param <K> Type of the package keys
+ * @param <C> Type of the components
+ * @param <A> Type of the advisories
+ * @since 0.24.0
+ */
+public final class IncrementalMatcher<K, C, A> {
+
+    /**
+     * A change of the range an advisory affects in a package.
+     *
+     * @param packageKey The key identifying the package
+     * @param advisory   The advisory
+     * @param vers       The new range of the advisory, or {@code null} when the advisory was removed
+     * @param <K>        Type of the package key
+     * @param <A>        Type of the advisory
+     */
+    public record AdvisoryChange<K, A>(K packageKey, A advisory, @Nullable Vers vers) {
+
+        public AdvisoryChange {
+            requireNonNull(packageKey, "packageKey must not be null");
+            requireNonNull(advisory, "advisory must not be null");
+        }
+    }
+
+    /**
+     * @param packageKey The key identifying the package the component was matched as
+     * @param component  The matched component
+     * @param advisory   The advisory whose range contains the component's version
+     * @param <K>        Type of the package key
+     * @param <C>        Type of the component
+     * @param <A>        Type of the advisory
+     */
+    public record Match<K, C, A>(K packageKey, C component, A advisory) {}
+
+    /**
+     * @param added   Matches that did not exist prior to applying the changes
+     * @param removed Matches that no longer exist after applying the changes
+     * @param <K>     Type of the package keys
+     * @param <C>     Type of the components
+     * @param <A>     Type of the advisories
+     */
+    public record MatchDelta<K, C, A>(List<Match<K, C, A>> added, List<Match<K, C, A>> removed) {
+
+        public MatchDelta {
+            added = List.copyOf(added);
+            removed = List.copyOf(removed);
+        }
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    private final InventoryIndex<K, C> inventoryIndex;
+    private final Map<K, Map<A, List<C>>> matchesByPackage = new HashMap<>();
+    private int matchCount;
+
+    private IncrementalMatcher(InventoryIndex<K, C> inventoryIndex) {
+        this.inventoryIndex = inventoryIndex;
+    }
+
+    /**
+     * @param inventory The components to keep track of matches for
+     * @param <K>       Type of the package keys
+     * @param <C>       Type of the components
+     * @param <A>       Type of the advisories
+     * @return An {@link IncrementalMatcher} without any advisory ranges
+     */
+    public static <K, C, A> IncrementalMatcher<K, C, A> of(Stream<InventoryRow<K, C>> inventory) {
+        return of(inventory, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @param inventory      The components to keep track of matches for
+     * @param versionFactory The {@link VersionFactory} to create component versions with
+     * @param <K>            Type of the package keys
+     * @param <C>            Type of the components
+     * @param <A>            Type of the advisories
+     * @return An {@link IncrementalMatcher} without any advisory ranges
+     */
+    public static <K, C, A> IncrementalMatcher<K, C, A> of(
+            Stream<InventoryRow<K, C>> inventory, VersionFactory versionFactory) {
+        return of(InventoryIndex.of(inventory, versionFactory));
+    }
+
+    /**
+     * @param inventoryIndex The index of components to keep track of matches for
+     * @param <K>            Type of the package keys
+     * @param <C>            Type of the components
+     * @param <A>            Type of the advisories
+     * @return An {@link IncrementalMatcher} without any advisory ranges
+     */
+    public static <K, C, A> IncrementalMatcher<K, C, A> of(InventoryIndex<K, C> inventoryIndex) {
+        return new IncrementalMatcher<>(requireNonNull(inventoryIndex, "inventoryIndex must not be null"));
+    }
+
+    /**
+     * Applies changes of advisory ranges, and re-evaluates the components of the affected packages.
+     * <p>
+     * Changes are applied in order, so for multiple changes of the same advisory in the same package,
+     * the last one wins. Matches that are added and removed again by the same changes are reported in neither
+     * direction. Changes for packages without components are ignored.
+     *
+     * @param changes The changes to apply
+     * @return The matches that were added and removed by the changes
+     * @throws VersException When any of the changed ranges is invalid, in which case changes
+     *                       prior to the invalid one remain applied
+     */
+    public MatchDelta<K, C, A> apply(Collection<AdvisoryChange<K, A>> changes) {
+        requireNonNull(changes, "changes must not be null");
+
+        final var added = new LinkedHashSet<Match<K, C, A>>();
+        final var removed = new LinkedHashSet<Match<K, C, A>>();
+        for (final AdvisoryChange<K, A> change : changes) {
+            if (!inventoryIndex.containsPackage(change.packageKey())) {
+                continue;
+            }
+
+            final Vers vers = change.vers();
+            final List<C> newMatches = vers != null ? inventoryIndex.affectedBy(change.packageKey(), vers) : List.of();
+            final Map<A, List<C>> matchesByAdvisory =
+                    matchesByPackage.computeIfAbsent(change.packageKey(), ignored -> new HashMap<>());
+            final List<C> oldMatches = matchesByAdvisory.getOrDefault(change.advisory(), List.of());
+            diff(oldMatches, newMatches, change.packageKey(), change.advisory(), added, removed);
+
+            if (!newMatches.isEmpty()) {
+                matchesByAdvisory.put(change.advisory(), newMatches);
+            } else {
+                matchesByAdvisory.remove(change.advisory());
+            }
+            matchCount += newMatches.size() - oldMatches.size();
+        }
+
+        return new MatchDelta<>(List.copyOf(added), List.copyOf(removed));
+    }
+
+    /**
+     * @param packageKey The key identifying the package
+     * @param advisory   The advisory
+     * @return The components of the package currently matched by the advisory's range
+     */
+    public List<C> matches(K packageKey, A advisory) {
+        final Map<A, List<C>> matchesByAdvisory = matchesByPackage.getOrDefault(packageKey, Map.of());
+        return List.copyOf(matchesByAdvisory.getOrDefault(advisory, List.of()));
+    }
+
+    /**
+     * @return The total number of current matches
+     */
+    public int matchCount() {
+        return matchCount;
+    }
+
+    private static <K, C, A> void diff(
+            List<C> oldMatches,
+            List<C> newMatches,
+            K packageKey,
+            A advisory,
+            Set<Match<K, C, A>> added,
+            Set<Match<K, C, A>> removed) {
+        final Set<C> oldSet = new HashSet<>(oldMatches);
+        final Set<C> newSet = new HashSet<>(newMatches);
+        for (final C component : newMatches) {
+            final var match = new Match<>(packageKey, component, advisory);
+            if (!oldSet.contains(component) && !removed.remove(match)) {
+                added.add(match);
+            }
+        }
+        for (final C component : oldMatches) {
+            final var match = new Match<>(packageKey, component, advisory);
+            if (!newSet.contains(component) && !added.remove(match)) {
+                removed.add(match);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import io.github.nscuro.versatile.spi.Version;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A contiguous interval of versions, as part of the {@link Vers#intervals() interval view} of a {@link Vers}.
+ *
+ * @param lower          The lower endpoint, or {@code null} when the interval is unbounded at the bottom
+ * @param lowerInclusive Whether {@code lower} is part of the interval
+ * @param upper          The upper endpoint, or {@code null} when the interval is unbounded at the top
+ * @param upperInclusive Whether {@code upper} is part of the interval
+ * @since 0.24.0
+ */
+public record Interval(
+        @Nullable Version lower, boolean lowerInclusive, @Nullable Version upper, boolean upperInclusive) {
+
+    static final Interval ALL = new Interval(null, false, null, false);
+
+    static Interval point(Version version) {
+        return new Interval(version, true, version, true);
+    }
+
+    /**
+     * @param version The version to check
+     * @return {@code true} when {@code version} is part of this interval
+     */
+    public boolean contains(Version version) {
+        return !isAbove(version) && !isBelow(version);
+    }
+
+    /**
+     * @return {@code true} when all versions of this interval are greater than {@code version}
+     */
+    boolean isAbove(Version version) {
+        if (lower == null) {
+            return false;
+        }
+
+        final int comparisonResult = lower.compareTo(version);
+        return comparisonResult > 0 || (comparisonResult == 0 && !lowerInclusive);
+    }
+
+    /**
+     * @return {@code true} when all versions of this interval are lower than {@code version}
+     */
+    boolean isBelow(Version version) {
+        if (upper == null) {
+            return false;
+        }
+
+        final int comparisonResult = upper.compareTo(version);
+        return comparisonResult < 0 || (comparisonResult == 0 && !upperInclusive);
+    }
+
+    boolean isPoint() {
+        return lower != null && upper != null && lowerInclusive && upperInclusive && lower.compareTo(upper) == 0;
+    }
+
+    /**
+     * @return {@code true} when this interval contains no version at all
+     */
+    boolean isEmpty() {
+        if (lower == null || upper == null) {
+            return false;
+        }
+
+        final int comparisonResult = lower.compareTo(upper);
+        return comparisonResult > 0 || (comparisonResult == 0 && !(lowerInclusive && upperInclusive));
+    }
+
+    /**
+     * @return {@code true} when this interval and the subsequent interval {@code next}
+     * meet at a version that neither of them contains, e.g. {@code (1,2)} and {@code (2,3)}
+     */
+    boolean isSeparatedByPointFrom(Interval next) {
+        return upper != null
+                && next.lower != null
+                && !upperInclusive
+                && !next.lowerInclusive
+                && upper.compareTo(next.lower) == 0;
+    }
+
+    /**
+     * @return {@code true} when this interval and the subsequent interval {@code next} either
+     * intersect, or touch without a gap between them, e.g. {@code (1,2]} and {@code (2,3)}
+     */
+    boolean isConnectedTo(Interval next) {
+        if (intersects(next)) {
+            return true;
+        }
+
+        return upper != null
+                && next.lower != null
+                && (upperInclusive || next.lowerInclusive)
+                && upper.compareTo(next.lower) == 0;
+    }
+
+    /**
+     * @return The smallest interval spanning both this and {@code other}
+     */
+    Interval span(Interval other) {
+        final Interval lowerMost = compareLower(this, other) <= 0 ? this : other;
+        final Interval upperMost = compareUpper(this, other) >= 0 ? this : other;
+        return new Interval(lowerMost.lower, lowerMost.lowerInclusive, upperMost.upper, upperMost.upperInclusive);
+    }
+
+    /**
+     * @return The versions that this and {@code other} have in common, which may be an {@link #isEmpty() empty}
+     * interval
+     */
+    Interval intersection(Interval other) {
+        final Interval lowerMost = compareLower(this, other) >= 0 ? this : other;
+        final Interval upperMost = compareUpper(this, other) <= 0 ? this : other;
+        return new Interval(lowerMost.lower, lowerMost.lowerInclusive, upperMost.upper, upperMost.upperInclusive);
+    }
+
+    /**
+     * @return {@code true} when this and {@code other} have at least one version in common
+     */
+    boolean intersects(Interval other) {
+        return !intersection(other).isEmpty();
+    }
+
+    /**
+     * Orders intervals by their lower endpoint, where being unbounded is lowest,
+     * and an inclusive endpoint is lower than an exclusive one of the same version.
+     */
+    static int compareLower(Interval a, Interval b) {
+        if (a.lower == null || b.lower == null) {
+            return Boolean.compare(a.lower != null, b.lower != null);
+        }
+
+        final int comparisonResult = a.lower.compareTo(b.lower);
+        return comparisonResult != 0 ? comparisonResult : Boolean.compare(b.lowerInclusive, a.lowerInclusive);
+    }
+
+    /**
+     * Orders intervals by their upper endpoint, where being unbounded is highest,
+     * and an exclusive endpoint is lower than an inclusive one of the same version.
+     */
+    static int compareUpper(Interval a, Interval b) {
+        if (a.upper == null || b.upper == null) {
+            return Boolean.compare(a.upper == null, b.upper == null);
+        }
+
+        final int comparisonResult = a.upper.compareTo(b.upper);
+        return comparisonResult != 0 ? comparisonResult : Boolean.compare(a.upperInclusive, b.upperInclusive);
+    }
+
+    /**
+     * @return The interval in mathematical notation, e.g. {@code [1.0.0,2.0.0)} or {@code (,1.0.0]}
+     */
+    @Override
+    public String toString() {
+        return (lowerInclusive ? "[" : "(")
+                + (lower != null ? lower : "")
+                + ","
+                + (upper != null ? upper : "")
+                + (upperInclusive ? "]" : ")");
+    }
+}
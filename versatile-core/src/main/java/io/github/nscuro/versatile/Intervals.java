@@ -0,0 +1,381 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decomposition of {@code vers} constraints into sorted, disjoint {@link Interval}s,
+ * and operations on such decompositions.
+ *
+ * @since 0.24.0
+ */
+final class Intervals {
+
+    private Intervals() {}
+
+    /**
+     * Decomposes a list of constraints, sorted by version, into sorted and disjoint {@link Interval}s.
+     * <p>
+     * The decomposition covers exactly the versions that {@link Vers#contains(String)} considers
+     * to be in range: versions of {@code =}, {@code <=}, and {@code >=} constraints are always
+     * in range, {@code !=} constraints exclude versions from the intervals formed by bound constraints,
+     * and a sole {@code !=} constraint covers all versions but its own.
+     * <p>
+     * Touching intervals are merged, such that the decomposition is canonical: two constraint lists
+     * cover the same versions if, and only if, their decompositions are equal.
+     *
+     * @param constraints The constraints to decompose
+     * @return The decomposition, or {@code null} when the bound constraints do not alternate
+     * between lower and upper bounds, or when a wildcard is combined with other constraints
+     */
+    static @Nullable List<Interval> of(List<Constraint> constraints) {
+        if (constraints.isEmpty()) {
+            return List.of();
+        }
+        if (constraints.size() == 1) {
+            final Constraint constraint = constraints.getFirst();
+            if (constraint.comparator() == Comparator.WILDCARD) {
+                return List.of(Interval.ALL);
+            } else if (constraint.comparator() == Comparator.NOT_EQUAL) {
+                final Version version = requireNonNull(constraint.version());
+                return List.of(new Interval(null, false, version, false), new Interval(version, false, null, false));
+            }
+        }
+
+        // Versions below the first bound are in range when that bound is an upper bound.
+        boolean inside = false;
+        boolean hasBound = false;
+        for (final Constraint constraint : constraints) {
+            final Comparator comparator = constraint.comparator();
+            if (comparator == Comparator.WILDCARD) {
+                return null;
+            } else if (!hasBound && isBound(comparator)) {
+                inside = isUpperBound(comparator);
+                hasBound = true;
+            }
+        }
+
+        // Sweep over versions in ascending order, alternating between each distinct version
+        // and the gap to the next one, and keep track of the interval currently being built.
+        final var intervals = new ArrayList<Interval>();
+        boolean intervalOpen = inside;
+        @Nullable Version intervalLower = null;
+        boolean intervalLowerInclusive = false;
+        @Nullable Comparator previousBound = null;
+
+        int i = 0;
+        while (i < constraints.size()) {
+            final Version version = requireNonNull(constraints.get(i).version());
+            final boolean insideBefore = inside;
+            boolean isEqual = false;
+            boolean isNotEqual = false;
+            boolean isBound = false;
+
+            for (; i < constraints.size(); i++) {
+                final Constraint constraint = constraints.get(i);
+                if (requireNonNull(constraint.version()).compareTo(version) != 0) {
+                    break;
+                }
+
+                final Comparator comparator = constraint.comparator();
+                switch (comparator) {
+                    case EQUAL -> isEqual = true;
+                    case NOT_EQUAL -> isNotEqual = true;
+                    default -> {
+                        if (previousBound != null && isUpperBound(previousBound) == isUpperBound(comparator)) {
+                            return null;
+                        }
+
+                        isEqual |= comparator == Comparator.LESS_THAN_OR_EQUAL
+                                || comparator == Comparator.GREATER_THAN_OR_EQUAL;
+                        isBound = true;
+                        inside = !isUpperBound(comparator);
+                        previousBound = comparator;
+                    }
+                }
+            }
+
+            final boolean versionInRange = isEqual || (!isNotEqual && !isBound && insideBefore);
+            if (versionInRange && !intervalOpen) {
+                intervalOpen = true;
+                intervalLower = version;
+                intervalLowerInclusive = true;
+            } else if (!versionInRange && intervalOpen) {
+                intervals.add(new Interval(intervalLower, intervalLowerInclusive, version, false));
+                intervalOpen = false;
+            }
+
+            if (inside && !intervalOpen) {
+                intervalOpen = true;
+                intervalLower = version;
+                intervalLowerInclusive = false;
+            } else if (!inside && intervalOpen) {
+                intervals.add(new Interval(intervalLower, intervalLowerInclusive, version, true));
+                intervalOpen = false;
+            }
+        }
+
+        if (intervalOpen) {
+            intervals.add(new Interval(intervalLower, intervalLowerInclusive, null, false));
+        }
+
+        return intervals;
+    }
+
+    /**
+     * Determines whether two decompositions have at least one version in common,
+     * using a single merge sweep over both.
+     */
+    static boolean overlap(List<Interval> intervalsA, List<Interval> intervalsB) {
+        int i = 0, j = 0;
+        while (i < intervalsA.size() && j < intervalsB.size()) {
+            final Interval intervalA = intervalsA.get(i);
+            final Interval intervalB = intervalsB.get(j);
+            if (intervalA.intersects(intervalB)) {
+                return true;
+            }
+
+            // The interval that ends first cannot intersect any later interval of the other decomposition.
+            if (Interval.compareUpper(intervalA, intervalB) <= 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether a decomposition contains a version, using a binary search over its intervals.
+     */
+    static boolean contains(List<Interval> intervals, Version version) {
+        int low = 0, high = intervals.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final Interval interval = intervals.get(mid);
+            if (interval.isAbove(version)) {
+                high = mid - 1;
+            } else if (interval.isBelow(version)) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determines whether all versions of {@code intervalsA} are part of {@code intervalsB},
+     * using a single merge sweep over both.
+     */
+    static boolean isSubset(List<Interval> intervalsA, List<Interval> intervalsB) {
+        int j = 0;
+        for (final Interval intervalA : intervalsA) {
+            // Touching intervals are merged, so each interval of A must be covered by a single interval of B.
+            // Intervals of B that end before it cannot cover it, nor any later interval of A.
+            while (j < intervalsB.size() && Interval.compareUpper(intervalsB.get(j), intervalA) < 0) {
+                j++;
+            }
+            if (j == intervalsB.size() || Interval.compareLower(intervalsB.get(j), intervalA) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes the union of two decompositions, using a single merge sweep over both.
+     */
+    static List<Interval> union(List<Interval> intervalsA, List<Interval> intervalsB) {
+        final var result = new ArrayList<Interval>(intervalsA.size() + intervalsB.size());
+
+        int i = 0, j = 0;
+        while (i < intervalsA.size() || j < intervalsB.size()) {
+            final Interval next;
+            if (j >= intervalsB.size()
+                    || (i < intervalsA.size() && Interval.compareLower(intervalsA.get(i), intervalsB.get(j)) <= 0)) {
+                next = intervalsA.get(i++);
+            } else {
+                next = intervalsB.get(j++);
+            }
+
+            // Intervals arrive ordered by their lower endpoint, so only the last one can be extended.
+            if (!result.isEmpty() && result.getLast().isConnectedTo(next)) {
+                result.set(result.size() - 1, result.getLast().span(next));
+            } else {
+                result.add(next);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the intersection of two decompositions, using a single merge sweep over both.
+     */
+    static List<Interval> intersection(List<Interval> intervalsA, List<Interval> intervalsB) {
+        final var result = new ArrayList<Interval>();
+
+        int i = 0, j = 0;
+        while (i < intervalsA.size() && j < intervalsB.size()) {
+            final Interval intervalA = intervalsA.get(i);
+            final Interval intervalB = intervalsB.get(j);
+
+            final Interval intersection = intervalA.intersection(intervalB);
+            if (!intersection.isEmpty()) {
+                result.add(intersection);
+            }
+
+            if (Interval.compareUpper(intervalA, intervalB) <= 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes the complement of a decomposition, i.e. the gaps between its intervals.
+     */
+    static List<Interval> complement(List<Interval> intervals) {
+        final var result = new ArrayList<Interval>(intervals.size() + 1);
+
+        @Nullable Version gapLower = null;
+        boolean gapLowerInclusive = false;
+        for (final Interval interval : intervals) {
+            if (interval.lower() != null) {
+                final var gap = new Interval(gapLower, gapLowerInclusive, interval.lower(), !interval.lowerInclusive());
+                if (!gap.isEmpty()) {
+                    result.add(gap);
+                }
+            }
+            if (interval.upper() == null) {
+                return result;
+            }
+
+            gapLower = interval.upper();
+            gapLowerInclusive = !interval.upperInclusive();
+        }
+
+        result.add(new Interval(gapLower, gapLowerInclusive, null, false));
+        return result;
+    }
+
+    /**
+     * Computes the versions of {@code intervalsA} that are not part of {@code intervalsB}.
+     */
+    static List<Interval> difference(List<Interval> intervalsA, List<Interval> intervalsB) {
+        return intersection(intervalsA, complement(intervalsB));
+    }
+
+    /**
+     * Converts a non-empty decomposition back into a minimal list of constraints, sorted by version.
+     * <p>
+     * Single versions excluded between two intervals are expressed as {@code !=} constraints.
+     * A range consisting only of {@code !=} constraints is empty when it has more than one of them,
+     * and a version must not occur in more than one constraint. A decomposition covering all versions
+     * but two or more single ones can thus not be expressed as constraints.
+     *
+     * @throws VersException When the decomposition covers all versions but two or more single ones
+     */
+    static List<Constraint> toConstraints(String scheme, List<Interval> intervals) {
+        if (intervals.size() == 1
+                && intervals.getFirst().lower() == null
+                && intervals.getFirst().upper() == null) {
+            return List.of(new Constraint(scheme, Comparator.WILDCARD, null));
+        }
+
+        if (excludesOnlyMultipleVersions(intervals)) {
+            final var excludedVersions = new ArrayList<String>(intervals.size() - 1);
+            for (int i = 0; i < intervals.size() - 1; i++) {
+                excludedVersions.add(String.valueOf(intervals.get(i).upper()));
+            }
+
+            throw new VersException("all %s versions except %s cannot be expressed as a vers range"
+                    .formatted(scheme, String.join(", ", excludedVersions)));
+        }
+
+        final var constraints = new ArrayList<Constraint>(intervals.size() * 2);
+        for (int i = 0; i < intervals.size(); i++) {
+            final Interval interval = intervals.get(i);
+            if (interval.isPoint()) {
+                constraints.add(new Constraint(scheme, Comparator.EQUAL, interval.lower()));
+                continue;
+            }
+
+            if (interval.lower() != null) {
+                if (i > 0 && intervals.get(i - 1).isSeparatedByPointFrom(interval)) {
+                    constraints.add(new Constraint(scheme, Comparator.NOT_EQUAL, interval.lower()));
+                } else {
+                    constraints.add(new Constraint(
+                            scheme,
+                            interval.lowerInclusive() ? Comparator.GREATER_THAN_OR_EQUAL : Comparator.GREATER_THAN,
+                            interval.lower()));
+                }
+            }
+
+            if (interval.upper() != null) {
+                final boolean excludesOnlyUpper =
+                        i < intervals.size() - 1 && interval.isSeparatedByPointFrom(intervals.get(i + 1));
+                if (!excludesOnlyUpper) {
+                    constraints.add(new Constraint(
+                            scheme,
+                            interval.upperInclusive() ? Comparator.LESS_THAN_OR_EQUAL : Comparator.LESS_THAN,
+                            interval.upper()));
+                }
+            }
+        }
+
+        return constraints;
+    }
+
+    /**
+     * Checks whether a decomposition covers all versions but two or more single ones.
+     * Such decompositions can not be {@link #toConstraints(String, List) converted} to constraints.
+     */
+    static boolean excludesOnlyMultipleVersions(List<Interval> intervals) {
+        boolean onlyExcludedVersions = intervals.size() > 2
+                && intervals.getFirst().lower() == null
+                && intervals.getLast().upper() == null;
+        for (int i = 0; onlyExcludedVersions && i < intervals.size() - 1; i++) {
+            onlyExcludedVersions = intervals.get(i).isSeparatedByPointFrom(intervals.get(i + 1));
+        }
+
+        return onlyExcludedVersions;
+    }
+
+    private static boolean isBound(Comparator comparator) {
+        return comparator != Comparator.EQUAL && comparator != Comparator.NOT_EQUAL;
+    }
+
+    private static boolean isUpperBound(Comparator comparator) {
+        return comparator == Comparator.LESS_THAN || comparator == Comparator.LESS_THAN_OR_EQUAL;
+    }
+}
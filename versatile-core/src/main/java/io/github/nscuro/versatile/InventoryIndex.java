@@ -0,0 +1,194 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.BulkMatcher.InventoryRow;
+import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An index of inventory components by package, answering which components are affected by a given {@link Vers}.
+ * <p>
+ * For each package and scheme, component versions are sorted by the scheme's ordering once, upon first
+ * lookup. Lookups then locate each interval of a range with a binary search, and return the components between.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @param <K> Type of the package keys
+ * @param <C> Type of the components
+ * @since 0.24.0
+ */
+public final class InventoryIndex<K, C> {
+
+    private record SortedComponents<C>(List<Version> versions, List<C> components) {}
+
+    private static final class PackageEntry<C> {
+
+        private final List<InventoryRow<?, C>> rows = new ArrayList<>();
+        private final Map<String, SortedComponents<C>> componentsByScheme = new ConcurrentHashMap<>();
+    }
+
+    private final Map<K, PackageEntry<C>> packages;
+    private final VersionFactory versionFactory;
+    private final int size;
+
+    private InventoryIndex(Map<K, PackageEntry<C>> packages, VersionFactory versionFactory, int size) {
+        this.packages = packages;
+        this.versionFactory = versionFactory;
+        this.size = size;
+    }
+
+    /**
+     * @param inventory The components to index
+     * @param <K>       Type of the package keys
+     * @param <C>       Type of the components
+     * @return An {@link InventoryIndex} of {@code inventory}
+     */
+    public static <K, C> InventoryIndex<K, C> of(Stream<InventoryRow<K, C>> inventory) {
+        return of(inventory, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @param inventory      The components to index
+     * @param versionFactory The {@link VersionFactory} to create component versions with
+     * @param <K>            Type of the package keys
+     * @param <C>            Type of the components
+     * @return An {@link InventoryIndex} of {@code inventory}
+     */
+    public static <K, C> InventoryIndex<K, C> of(Stream<InventoryRow<K, C>> inventory, VersionFactory versionFactory) {
+        requireNonNull(inventory, "inventory must not be null");
+        requireNonNull(versionFactory, "versionFactory must not be null");
+
+        final var packages = new HashMap<K, PackageEntry<C>>();
+        inventory.forEach(row -> packages.computeIfAbsent(row.packageKey(), ignored -> new PackageEntry<>())
+                .rows
+                .add(row));
+
+        int size = 0;
+        for (final PackageEntry<C> entry : packages.values()) {
+            size += entry.rows.size();
+        }
+
+        return new InventoryIndex<>(packages, versionFactory, size);
+    }
+
+    /**
+     * Components whose version is invalid for the scheme of {@code vers} are never affected.
+     *
+     * @param packageKey The key identifying the package
+     * @param vers       The range to look up affected components for
+     * @return The components of the package whose version is contained in {@code vers},
+     * in ascending order of their versions
+     * @throws VersException When {@code vers} is invalid
+     */
+    public List<C> affectedBy(K packageKey, Vers vers) {
+        requireNonNull(packageKey, "packageKey must not be null");
+        requireNonNull(vers, "vers must not be null");
+
+        final PackageEntry<C> entry = packages.get(packageKey);
+        if (entry == null) {
+            return List.of();
+        }
+
+        final List<Interval> intervals = vers.intervals();
+        final SortedComponents<C> sorted =
+                entry.componentsByScheme.computeIfAbsent(vers.scheme(), scheme -> sort(entry, scheme));
+
+        final var affected = new ArrayList<C>();
+        for (final Interval interval : intervals) {
+            final int start = firstIndexMatching(sorted.versions(), 0, version -> !interval.isAbove(version));
+            final int end = firstIndexMatching(sorted.versions(), start, interval::isBelow);
+            affected.addAll(sorted.components().subList(start, end));
+        }
+
+        return affected;
+    }
+
+    /**
+     * @param packageKey The key identifying the package
+     * @return {@code true} when the index holds components of the package
+     */
+    public boolean containsPackage(K packageKey) {
+        return packages.containsKey(packageKey);
+    }
+
+    /**
+     * @return The number of indexed packages
+     */
+    public int packageCount() {
+        return packages.size();
+    }
+
+    /**
+     * @return The number of indexed components
+     */
+    public int size() {
+        return size;
+    }
+
+    private SortedComponents<C> sort(PackageEntry<C> entry, String scheme) {
+        final var parsedRows = new ArrayList<Map.Entry<Version, C>>(entry.rows.size());
+        for (final InventoryRow<?, C> row : entry.rows) {
+            final VersionParseResult parseResult = versionFactory.tryParse(scheme, row.version());
+            if (parseResult.isSuccess()) {
+                parsedRows.add(Map.entry(parseResult.orElseThrow(), row.component()));
+            }
+        }
+        parsedRows.sort(Map.Entry.comparingByKey());
+
+        final var versions = new ArrayList<Version>(parsedRows.size());
+        final var components = new ArrayList<C>(parsedRows.size());
+        for (final Map.Entry<Version, C> parsedRow : parsedRows) {
+            versions.add(parsedRow.getKey());
+            components.add(parsedRow.getValue());
+        }
+
+        return new SortedComponents<>(versions, components);
+    }
+
+    /**
+     * @param predicate A predicate that, over the sorted {@code versions}, is {@code false} up to some index,
+     *                  and {@code true} from there on
+     * @return The first index at or after {@code fromIndex} for which {@code predicate} holds,
+     * or the size of {@code versions} when there is none
+     */
+    private static int firstIndexMatching(List<Version> versions, int fromIndex, Predicate<Version> predicate) {
+        int low = fromIndex;
+        int high = versions.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (predicate.test(versions.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable, run-length encoded set of non-negative ordinals, e.g. of versions in a {@link VersionCatalogue}.
+ * <p>
+ * Ordinals are stored as sorted, disjoint, half-open runs. Version ranges typically cover few long runs
+ * of a catalogue, so the encoding is compact, and set operations take time linear in the number of runs
+ * rather than in the number of ordinals.
+ *
+ * @see VersionCatalogue.CompiledRange#toBitmap()
+ * @since 0.24.0
+ */
+public final class OrdinalBitmap {
+
+    private static final OrdinalBitmap EMPTY = new OrdinalBitmap(new int[0]);
+
+    /**
+     * Start (inclusive) and end (exclusive) of each run, in ascending order.
+     * Runs neither overlap nor touch.
+     */
+    private final int[] runs;
+
+    private OrdinalBitmap(int[] runs) {
+        this.runs = runs;
+    }
+
+    /**
+     * @return A bitmap containing no ordinal
+     */
+    public static OrdinalBitmap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param fromOrdinal The first ordinal to include
+     * @param toOrdinal   The ordinal after the last ordinal to include
+     * @return A bitmap containing all ordinals within {@code [fromOrdinal, toOrdinal)}
+     * @throws IllegalArgumentException When {@code fromOrdinal} is negative or greater than {@code toOrdinal}
+     */
+    public static OrdinalBitmap range(int fromOrdinal, int toOrdinal) {
+        if (fromOrdinal < 0 || fromOrdinal > toOrdinal) {
+            throw new IllegalArgumentException("Invalid range [%d,%d)".formatted(fromOrdinal, toOrdinal));
+        }
+
+        return fromOrdinal == toOrdinal ? EMPTY : new OrdinalBitmap(new int[] {fromOrdinal, toOrdinal});
+    }
+
+    /**
+     * @param ordinals The ordinals to include, in any order
+     * @return A bitmap containing the given ordinals
+     * @throws IllegalArgumentException When any of the ordinals is negative or {@link Integer#MAX_VALUE},
+     *                                  the latter being reserved as exclusive end of runs
+     */
+    public static OrdinalBitmap of(int... ordinals) {
+        final int[] sorted = ordinals.clone();
+        Arrays.sort(sorted);
+
+        final var builder = new Builder(sorted.length);
+        for (final int ordinal : sorted) {
+            if (ordinal < 0) {
+                throw new IllegalArgumentException("Ordinals must not be negative, but got " + ordinal);
+            } else if (ordinal == Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Ordinals must be lower than " + Integer.MAX_VALUE);
+            }
+            builder.add(ordinal, ordinal + 1);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param runs Sorted, disjoint, non-touching half-open runs; not copied
+     */
+    static OrdinalBitmap ofRuns(int[] runs) {
+        return runs.length == 0 ? EMPTY : new OrdinalBitmap(runs);
+    }
+
+    public boolean contains(int ordinal) {
+        int low = 0, high = runs.length / 2 - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (ordinal < runs[2 * mid]) {
+                high = mid - 1;
+            } else if (ordinal >= runs[2 * mid + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return runs.length == 0;
+    }
+
+    /**
+     * @return The number of ordinals in this bitmap
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            cardinality += runs[i + 1] - runs[i];
+        }
+
+        return cardinality;
+    }
+
+    /**
+     * @return The number of runs of consecutive ordinals in this bitmap
+     */
+    public int runCount() {
+        return runs.length / 2;
+    }
+
+    /**
+     * @param fromOrdinal The ordinal to start searching at
+     * @return The lowest ordinal in this bitmap that is not lower than {@code fromOrdinal}, or {@code -1} if none
+     */
+    public int nextSetOrdinal(int fromOrdinal) {
+        final int run = firstRunEndingAfter(fromOrdinal);
+        if (run == runs.length) {
+            return -1;
+        }
+
+        return Math.max(fromOrdinal, runs[run]);
+    }
+
+    /**
+     * For example, {@code affectedVersions.nextClearOrdinal(0)} is the ordinal of the first version
+     * that is not affected.
+     *
+     * @param fromOrdinal The ordinal to start searching at
+     * @return The lowest ordinal not in this bitmap that is not lower than {@code fromOrdinal}
+     */
+    public int nextClearOrdinal(int fromOrdinal) {
+        final int run = firstRunEndingAfter(fromOrdinal);
+        if (run == runs.length || runs[run] > fromOrdinal) {
+            return fromOrdinal;
+        }
+
+        // Runs never touch, so the end of a run is never part of the bitmap.
+        return runs[run + 1];
+    }
+
+    /**
+     * @return Index of the start of the first run whose end is greater than {@code ordinal},
+     * or {@code runs.length} if there is none
+     */
+    private int firstRunEndingAfter(int ordinal) {
+        int low = 0, high = runs.length / 2;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (runs[2 * mid + 1] <= ordinal) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return 2 * low;
+    }
+
+    /**
+     * @return The ordinals in this bitmap, in ascending order
+     */
+    public IntStream stream() {
+        // Concatenating a stream per run would nest as deeply as there are runs.
+        return IntStream.range(0, runs.length / 2).flatMap(run -> IntStream.range(runs[2 * run], runs[2 * run + 1]));
+    }
+
+    /**
+     * @return A bitmap containing the ordinals contained in this bitmap and in {@code other}
+     */
+    public OrdinalBitmap and(OrdinalBitmap other) {
+        final int[] runsA = this.runs, runsB = other.runs;
+        final var builder = new Builder(Math.min(runsA.length, runsB.length));
+
+        int i = 0, j = 0;
+        while (i < runsA.length && j < runsB.length) {
+            final int start = Math.max(runsA[i], runsB[j]);
+            final int end = Math.min(runsA[i + 1], runsB[j + 1]);
+            if (start < end) {
+                builder.add(start, end);
+            }
+
+            // The run that ends first cannot intersect any later run of the other bitmap.
+            if (runsA[i + 1] <= runsB[j + 1]) {
+                i += 2;
+            } else {
+                j += 2;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @return A bitmap containing the ordinals contained in this bitmap or in {@code other}
+     */
+    public OrdinalBitmap or(OrdinalBitmap other) {
+        final int[] runsA = this.runs, runsB = other.runs;
+        final var builder = new Builder(runsA.length + runsB.length);
+
+        int i = 0, j = 0;
+        while (i < runsA.length || j < runsB.length) {
+            if (j >= runsB.length || (i < runsA.length && runsA[i] <= runsB[j])) {
+                builder.add(runsA[i], runsA[i + 1]);
+                i += 2;
+            } else {
+                builder.add(runsB[j], runsB[j + 1]);
+                j += 2;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @return A bitmap containing the ordinals contained in this bitmap, but not in {@code other}
+     */
+    public OrdinalBitmap andNot(OrdinalBitmap other) {
+        final int[] runsA = this.runs, runsB = other.runs;
+        final var builder = new Builder(runsA.length + runsB.length);
+
+        int j = 0;
+        for (int i = 0; i < runsA.length; i += 2) {
+            final int end = runsA[i + 1];
+            int start = runsA[i];
+
+            // Runs of the other bitmap that end before this run cannot affect it, nor any later run.
+            while (j < runsB.length && runsB[j + 1] <= start) {
+                j += 2;
+            }
+
+            int k = j;
+            while (k < runsB.length && runsB[k] < end) {
+                if (runsB[k] > start) {
+                    builder.add(start, runsB[k]);
+                }
+                start = Math.max(start, runsB[k + 1]);
+                k += 2;
+            }
+            if (start < end) {
+                builder.add(start, end);
+            }
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final OrdinalBitmap other)) {
+            return false;
+        }
+
+        return Arrays.equals(runs, other.runs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(runs);
+    }
+
+    /**
+     * @return The runs of this bitmap, e.g. {@code {[0,3), [5,6)}}
+     */
+    @Override
+    public String toString() {
+        final var joiner = new StringJoiner(", ", "{", "}");
+        for (int i = 0; i < runs.length; i += 2) {
+            joiner.add("[" + runs[i] + "," + runs[i + 1] + ")");
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Collects runs in ascending order of their start, coalescing overlapping and touching runs.
+     */
+    private static final class Builder {
+
+        private int[] runs;
+        private int length;
+
+        private Builder(int expectedLength) {
+            this.runs = new int[Math.max(2, expectedLength)];
+        }
+
+        private void add(int start, int end) {
+            if (length > 0 && start <= runs[length - 1]) {
+                runs[length - 1] = Math.max(runs[length - 1], end);
+                return;
+            }
+
+            if (length == runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[length++] = start;
+            runs[length++] = end;
+        }
+
+        private OrdinalBitmap build() {
+            return ofRuns(length == runs.length ? runs : Arrays.copyOf(runs, length));
+        }
+    }
+}
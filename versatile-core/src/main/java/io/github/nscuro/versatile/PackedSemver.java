@@ -0,0 +1,126 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_CARGO;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GOLANG;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NPM;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NUGET;
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.Set;
+
+/**
+ * Packs versions of the form {@code major.minor.patch[-prerelease][+build]} into order-preserving {@code long}s.
+ * <p>
+ * The numeric triple occupies bits 1 to 61, and the lowest bit is set for stable versions. Comparing two
+ * packed versions thus agrees with comparing the versions themselves, except for two pre-releases of the same
+ * triple, whose pre-release identifiers are not retained.
+ * <p>
+ * Only schemes whose versions follow semantic versioning in this regard are supported.
+ *
+ * @since 0.24.0
+ */
+public final class PackedSemver {
+
+    /**
+     * Returned by {@link #pack(Version)} for versions that cannot be packed.
+     */
+    public static final long NOT_PACKABLE = -1L;
+
+    private static final Set<String> SUPPORTED_SCHEMES = Set.of(SCHEME_CARGO, SCHEME_GOLANG, SCHEME_NPM, SCHEME_NUGET);
+    private static final int MINOR_BITS = 21;
+    private static final int PATCH_BITS = 20;
+    private static final long MAJOR_LIMIT = 1L << 20;
+    private static final long MINOR_LIMIT = 1L << MINOR_BITS;
+    private static final long PATCH_LIMIT = 1L << PATCH_BITS;
+
+    private PackedSemver() {}
+
+    /**
+     * @param scheme The scheme to check
+     * @return {@code true} when versions of {@code scheme} can be packed
+     */
+    public static boolean isSupportedScheme(String scheme) {
+        return SUPPORTED_SCHEMES.contains(scheme);
+    }
+
+    /**
+     * @param version The version to pack
+     * @return The packed version, or {@link #NOT_PACKABLE} when its scheme is not supported,
+     * it has more or less than three numeric components, or any of them is too large
+     */
+    public static long pack(Version version) {
+        requireNonNull(version, "version must not be null");
+        if (!isSupportedScheme(version.scheme())) {
+            return NOT_PACKABLE;
+        }
+
+        final String versionStr = version.toString();
+        int position = !versionStr.isEmpty() && versionStr.charAt(0) == 'v' ? 1 : 0;
+
+        final long[] components = new long[3];
+        for (int i = 0; i < components.length; i++) {
+            final int start = position;
+            long value = 0;
+            while (position < versionStr.length() && isDigit(versionStr.charAt(position)) && position - start < 8) {
+                value = value * 10 + (versionStr.charAt(position++) - '0');
+            }
+            if (position == start) {
+                return NOT_PACKABLE;
+            }
+
+            components[i] = value;
+            if (i < components.length - 1) {
+                if (position >= versionStr.length() || versionStr.charAt(position) != '.') {
+                    return NOT_PACKABLE;
+                }
+                position++;
+            }
+        }
+        if (components[0] >= MAJOR_LIMIT || components[1] >= MINOR_LIMIT || components[2] >= PATCH_LIMIT) {
+            return NOT_PACKABLE;
+        }
+
+        final boolean stable;
+        if (position == versionStr.length() || versionStr.charAt(position) == '+') {
+            stable = true;
+        } else if (versionStr.charAt(position) == '-' && position + 1 < versionStr.length()) {
+            stable = false;
+        } else {
+            return NOT_PACKABLE;
+        }
+
+        final long triple = (((components[0] << MINOR_BITS) | components[1]) << PATCH_BITS) | components[2];
+        return (triple << 1) | (stable ? 1 : 0);
+    }
+
+    /**
+     * @param packed A packed version
+     * @return {@code true} when the packed version is a pre-release
+     */
+    public static boolean isPrerelease(long packed) {
+        return (packed & 1) == 0;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
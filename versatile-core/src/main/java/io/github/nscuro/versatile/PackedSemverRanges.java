@@ -0,0 +1,245 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.PackedIntervalKernel;
+import io.github.nscuro.versatile.spi.Version;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A set of {@link Vers} ranges of a scheme supported by {@link PackedSemver}, whose interval endpoints
+ * are packed into flat arrays of {@code long}s.
+ * <p>
+ * Every interval is stored as a half-open range {@code [start, end)} of packed versions, such that
+ * matching a version against all ranges is a branch-free scan over two arrays. When a supported
+ * {@link PackedIntervalKernel} is discovered via {@link ServiceLoader}, such as the SIMD kernel
+ * of the {@code versatile-vector} module, the scan is delegated to it, otherwise a scalar loop is used.
+ * <p>
+ * Intervals with an endpoint that is a pre-release, or that cannot be packed, can not be represented exactly.
+ * Only those intervals are matched using {@link Interval#contains(Version)}, while all other intervals are
+ * still scanned in packed form. Versions that cannot be packed are matched using {@link Vers#intervals()}.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 0.24.0
+ */
+public final class PackedSemverRanges {
+
+    private static final @Nullable PackedIntervalKernel KERNEL = loadKernel();
+
+    private final List<Vers> ranges;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] owners;
+
+    /**
+     * Intervals that could not be packed, and the indices of the ranges they belong to.
+     */
+    private final Interval[] fallbackIntervals;
+
+    private final int[] fallbackOwners;
+
+    private PackedSemverRanges(
+            List<Vers> ranges,
+            long[] starts,
+            long[] ends,
+            int[] owners,
+            Interval[] fallbackIntervals,
+            int[] fallbackOwners) {
+        this.ranges = ranges;
+        this.starts = starts;
+        this.ends = ends;
+        this.owners = owners;
+        this.fallbackIntervals = fallbackIntervals;
+        this.fallbackOwners = fallbackOwners;
+    }
+
+    /**
+     * @param ranges The ranges to pack
+     * @return The packed ranges, indexed in the order of {@code ranges}
+     * @throws IllegalArgumentException When {@code ranges} are not all of the same scheme, or
+     *                                  the scheme is not supported by {@link PackedSemver}
+     * @throws VersException            When any range is invalid
+     */
+    public static PackedSemverRanges of(List<Vers> ranges) {
+        requireNonNull(ranges, "ranges must not be null");
+
+        final var starts = new ArrayList<Long>();
+        final var ends = new ArrayList<Long>();
+        final var owners = new ArrayList<Integer>();
+        final var fallbackIntervals = new ArrayList<Interval>();
+        final var fallbackOwners = new ArrayList<Integer>();
+        for (int i = 0; i < ranges.size(); i++) {
+            final Vers vers = ranges.get(i);
+            if (!vers.scheme().equals(ranges.getFirst().scheme())) {
+                throw new IllegalArgumentException("Ranges must all be of the same scheme, but got %s and %s"
+                        .formatted(ranges.getFirst().scheme(), vers.scheme()));
+            } else if (!PackedSemver.isSupportedScheme(vers.scheme())) {
+                throw new IllegalArgumentException("Scheme %s is not supported".formatted(vers.scheme()));
+            }
+
+            for (final Interval interval : vers.intervals()) {
+                final long start = startOf(interval);
+                final long end = endOf(interval);
+                if (start == PackedSemver.NOT_PACKABLE || end == PackedSemver.NOT_PACKABLE) {
+                    fallbackIntervals.add(interval);
+                    fallbackOwners.add(i);
+                    continue;
+                }
+
+                starts.add(start);
+                ends.add(end);
+                owners.add(i);
+            }
+        }
+
+        return new PackedSemverRanges(
+                List.copyOf(ranges),
+                starts.stream().mapToLong(Long::longValue).toArray(),
+                ends.stream().mapToLong(Long::longValue).toArray(),
+                owners.stream().mapToInt(Integer::intValue).toArray(),
+                fallbackIntervals.toArray(new Interval[0]),
+                fallbackOwners.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * @return The number of ranges
+     */
+    public int size() {
+        return ranges.size();
+    }
+
+    /**
+     * @return {@code true} when the intervals of all ranges could be packed exactly
+     */
+    public boolean isPacked() {
+        return fallbackIntervals.length == 0;
+    }
+
+    /**
+     * @return {@code true} when matching is performed using a {@link PackedIntervalKernel}
+     */
+    public static boolean isVectorized() {
+        return KERNEL != null;
+    }
+
+    /**
+     * @param version The version to match
+     * @return Indices of all ranges that contain {@code version}
+     */
+    public BitSet matching(Version version) {
+        requireNonNull(version, "version must not be null");
+
+        final var result = new BitSet(ranges.size());
+        final long key = PackedSemver.pack(version);
+        if (key == PackedSemver.NOT_PACKABLE) {
+            for (int i = 0; i < ranges.size(); i++) {
+                if (Intervals.contains(ranges.get(i).intervals(), version)) {
+                    result.set(i);
+                }
+            }
+
+            return result;
+        }
+
+        final PackedIntervalKernel kernel = KERNEL;
+        if (kernel != null) {
+            kernel.match(key, starts, ends, owners, result);
+        } else {
+            match(key, starts, ends, owners, result);
+        }
+
+        for (int i = 0; i < fallbackIntervals.length; i++) {
+            if (!result.get(fallbackOwners[i]) && fallbackIntervals[i].contains(version)) {
+                result.set(fallbackOwners[i]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sets the owner of every interval {@code [starts[i], ends[i])} that contains {@code key}.
+     */
+    private static void match(long key, long[] starts, long[] ends, int[] owners, BitSet result) {
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] <= key && key < ends[i]) {
+                result.set(owners[i]);
+            }
+        }
+    }
+
+    /**
+     * An exclusive lower endpoint is the same as an inclusive one at the next packed version,
+     * since no version lies in between. Endpoints that are pre-releases are not packed, because
+     * their pre-release identifiers are significant for comparison.
+     */
+    private static long startOf(Interval interval) {
+        final Version lower = interval.lower();
+        if (lower == null) {
+            return 0;
+        }
+
+        final long packedLower = PackedSemver.pack(lower);
+        if (packedLower == PackedSemver.NOT_PACKABLE || PackedSemver.isPrerelease(packedLower)) {
+            return PackedSemver.NOT_PACKABLE;
+        }
+
+        return interval.lowerInclusive() ? packedLower : packedLower + 1;
+    }
+
+    private static long endOf(Interval interval) {
+        final Version upper = interval.upper();
+        if (upper == null) {
+            return Long.MAX_VALUE;
+        }
+
+        final long packedUpper = PackedSemver.pack(upper);
+        if (packedUpper == PackedSemver.NOT_PACKABLE || PackedSemver.isPrerelease(packedUpper)) {
+            return PackedSemver.NOT_PACKABLE;
+        }
+
+        return interval.upperInclusive() ? packedUpper + 1 : packedUpper;
+    }
+
+    /**
+     * Kernels may be present without being usable, for example when the {@code versatile-vector} module
+     * is on the class path, but {@code jdk.incubator.vector} was not added to the module graph.
+     */
+    private static @Nullable PackedIntervalKernel loadKernel() {
+        try {
+            for (final PackedIntervalKernel kernel : ServiceLoader.load(PackedIntervalKernel.class)) {
+                if (kernel.isSupported()) {
+                    return kernel;
+                }
+            }
+        } catch (ServiceConfigurationError | LinkageError e) {
+            return null;
+        }
+
+        return null;
+    }
+}
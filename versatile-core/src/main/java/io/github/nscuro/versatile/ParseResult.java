@@ -0,0 +1,161 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of an attempt to parse or build a value, which is either the value itself,
+ * or an {@link ErrorCode} describing why it could not be produced.
+ * <p>
+ * Failed results are cheap to create: the human-readable error message, and the
+ * exception thrown by {@link #orElseThrow()}, are only constructed when requested.
+ *
+ * @param <T> Type of the value
+ * @see Vers#tryParse(String)
+ * @see Vers#tryParseLenient(String)
+ * @since 0.24.0
+ */
+public final class ParseResult<T> {
+
+    public enum ErrorCode {
+        BLANK_INPUT,
+        CONTAINS_WHITESPACE,
+        MISSING_URI_SCHEME_SEPARATOR,
+        INVALID_URI_SCHEME,
+        MISSING_VERSIONING_SCHEME_SEPARATOR,
+        BLANK_VERSIONING_SCHEME,
+        LEADING_PIPE,
+        TRAILING_PIPE,
+        CONSECUTIVE_PIPES,
+        MISSING_CONSTRAINTS,
+        MISSING_VERSION,
+        INVALID_PERCENT_ENCODING,
+        INVALID_VERSION,
+        UNSORTED_CONSTRAINTS,
+        DUPLICATE_VERSION,
+        MIXED_VERSIONING_SCHEMES,
+        INVALID_WILDCARD,
+        INVALID_COMPARATOR_SEQUENCE
+    }
+
+    private final @Nullable T value;
+    private final @Nullable ErrorCode errorCode;
+    private final int errorOffset;
+    private final @Nullable Supplier<? extends RuntimeException> exceptionSupplier;
+
+    private ParseResult(
+            @Nullable T value,
+            @Nullable ErrorCode errorCode,
+            int errorOffset,
+            @Nullable Supplier<? extends RuntimeException> exceptionSupplier) {
+        this.value = value;
+        this.errorCode = errorCode;
+        this.errorOffset = errorOffset;
+        this.exceptionSupplier = exceptionSupplier;
+    }
+
+    static <T> ParseResult<T> success(T value) {
+        return new ParseResult<>(requireNonNull(value, "value must not be null"), null, -1, null);
+    }
+
+    /**
+     * @param errorCode         Code of the error
+     * @param errorOffset       Offset in the input at which the error was detected, or {@code -1} if not applicable
+     * @param exceptionSupplier Supplier of the exception to throw from {@link #orElseThrow()}
+     */
+    static <T> ParseResult<T> failure(
+            ErrorCode errorCode, int errorOffset, Supplier<? extends RuntimeException> exceptionSupplier) {
+        return new ParseResult<>(
+                null,
+                requireNonNull(errorCode, "errorCode must not be null"),
+                errorOffset,
+                requireNonNull(exceptionSupplier, "exceptionSupplier must not be null"));
+    }
+
+    /**
+     * @return This failed result, re-typed to a different value type
+     * @throws IllegalStateException When this result is not a failure
+     */
+    <U> ParseResult<U> asFailure() {
+        if (errorCode == null || exceptionSupplier == null) {
+            throw new IllegalStateException("Result is not a failure");
+        }
+
+        return new ParseResult<>(null, errorCode, errorOffset, exceptionSupplier);
+    }
+
+    public boolean isSuccess() {
+        return value != null;
+    }
+
+    /**
+     * @return The value, or an empty {@link Optional} if this result is a failure
+     */
+    public Optional<T> value() {
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * @return The code of the error, or {@code null} if this result is a success
+     */
+    public @Nullable ErrorCode errorCode() {
+        return errorCode;
+    }
+
+    /**
+     * @return Offset in the input at which the error was detected,
+     * or {@code -1} if this result is a success or the error is not tied to a position
+     */
+    public int errorOffset() {
+        return errorOffset;
+    }
+
+    /**
+     * @return A human-readable description of the error, or {@code null} if this result is a success
+     */
+    public @Nullable String errorMessage() {
+        return exceptionSupplier != null ? exceptionSupplier.get().getMessage() : null;
+    }
+
+    /**
+     * @return The value
+     * @throws VersException When this result is a failure
+     * @throws io.github.nscuro.versatile.spi.InvalidVersionException When this result is a failure
+     *                                                                 due to an invalid version
+     */
+    public T orElseThrow() {
+        if (value == null) {
+            throw requireNonNull(exceptionSupplier).get();
+        }
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return value != null
+                ? "ParseResult{value=%s}".formatted(value)
+                : "ParseResult{errorCode=%s, errorOffset=%d}".formatted(errorCode, errorOffset);
+    }
+}
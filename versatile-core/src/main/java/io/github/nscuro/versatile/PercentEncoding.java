@@ -19,12 +19,14 @@
 package io.github.nscuro.versatile;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
 
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.CodingErrorAction;
 import java.util.HexFormat;
+import org.jspecify.annotations.Nullable;
 
 final class PercentEncoding {
 
@@ -49,6 +51,36 @@ final class PercentEncoding {
     }
 
     static String decode(String value, boolean strict) {
+        return requireNonNull(decode(value, strict, /* throwOnError */ true));
+    }
+
+    /**
+     * Same as {@link #decode(String, boolean)}, but returns {@code null} instead of throwing for invalid values.
+     */
+    static @Nullable String tryDecode(String value, boolean strict) {
+        return decode(value, strict, /* throwOnError */ false);
+    }
+
+    /**
+     * @return The exception that {@link #decode(String, boolean)} throws for {@code value}
+     * @throws IllegalArgumentException When {@code value} is not actually invalid
+     */
+    static VersException decodingError(String value, boolean strict) {
+        try {
+            decode(value, strict);
+        } catch (VersException e) {
+            return e;
+        }
+
+        throw new IllegalArgumentException("Value \"%s\" is not invalid".formatted(value));
+    }
+
+    private static @Nullable String decode(String value, boolean strict, boolean throwOnError) {
+        if (isPlainAscii(value, strict)) {
+            // Nothing to decode, and nothing that would be rejected.
+            return value;
+        }
+
         final byte[] bytes = value.getBytes(UTF_8);
 
         final var out = new ByteArrayOutputStream(bytes.length);
@@ -56,6 +88,9 @@ final class PercentEncoding {
             final int b = bytes[i] & 0xFF;
             if (b != '%') {
                 if (strict && mustEncode(b)) {
+                    if (!throwOnError) {
+                        return null;
+                    }
                     throw new VersException("""
                             Value "%s" contains character "%s", which must be percent-encoded\
                             """.formatted(value, b));
@@ -67,6 +102,9 @@ final class PercentEncoding {
             final int hi = i + 1 < bytes.length ? hexDigit(bytes[i + 1], strict) : -1;
             final int lo = i + 2 < bytes.length ? hexDigit(bytes[i + 2], strict) : -1;
             if (hi < 0 || lo < 0) {
+                if (!throwOnError) {
+                    return null;
+                }
                 throw new VersException("""
                         Invalid or non-canonical percent-encoded triplet at index %d of value "%s"\
                         """.formatted(i, value));
@@ -74,6 +112,9 @@ final class PercentEncoding {
 
             final int decoded = hi << 4 | lo;
             if (strict && !mustEncode(decoded)) {
+                if (!throwOnError) {
+                    return null;
+                }
                 throw new VersException("""
                         Percent-encoded triplet at index %d of value "%s" is non-canonical, \
                         the encoded character does not require encoding""".formatted(i, value));
@@ -89,10 +130,24 @@ final class PercentEncoding {
                     .decode(ByteBuffer.wrap(out.toByteArray()))
                     .toString();
         } catch (CharacterCodingException e) {
+            if (!throwOnError) {
+                return null;
+            }
             throw new VersException("Value \"%s\" does not percent-decode to valid UTF-8".formatted(value), e);
         }
     }
 
+    private static boolean isPlainAscii(String value, boolean strict) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c > 0x7E || c == '%' || (strict && mustEncode(c))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private static int hexDigit(byte rawByte, boolean strict) {
         final char c = (char) (rawByte & 0xFF);
         if (strict && c >= 'a' && c <= 'f') {
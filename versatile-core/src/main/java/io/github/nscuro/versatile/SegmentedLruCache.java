@@ -0,0 +1,218 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A thread-safe, size-bounded cache with a segmented LRU eviction policy.
+ * <p>
+ * New entries are admitted to a probationary segment. Entries that are accessed again
+ * are promoted to a protected segment, which makes up at most 80% of the capacity. When the protected
+ * segment overflows, its least recently used entry is demoted back to the probationary segment.
+ * When the cache as a whole overflows, the least recently used entry of the probationary segment is evicted.
+ * Entries accessed only once thus never displace frequently accessed ones, which suits the skewed access
+ * patterns typical for parsing.
+ * <p>
+ * Large caches are split into independently locked stripes by key hash, such that concurrent lookups
+ * of different keys rarely contend for the same lock. The capacity is divided evenly among the stripes,
+ * so eviction is only approximately least recently used across the cache as a whole.
+ *
+ * @param <K> Type of the cache keys
+ * @param <V> Type of the cache values
+ * @since 0.24.0
+ */
+final class SegmentedLruCache<K, V> {
+
+    /**
+     * Maximum number of stripes. Must be a power of two.
+     */
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Minimum capacity of a stripe, below which a cache is not split any further.
+     */
+    private static final int MIN_STRIPE_CAPACITY = 256;
+
+    private final Stripe<K, V>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    SegmentedLruCache(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive, but is " + maximumSize);
+        }
+
+        final int stripeCount =
+                Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maximumSize / MIN_STRIPE_CAPACITY)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            // Distribute the remainder, such that the capacities add up to maximumSize.
+            stripes[i] = new Stripe<>(maximumSize / stripeCount + (i < maximumSize % stripeCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the value cached for {@code key}, computing and caching it first if necessary.
+     * <p>
+     * {@code mappingFunction} is invoked outside the lock, so concurrent callers
+     * may compute the same value more than once. Only one of them will be retained.
+     */
+    V get(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        final Stripe<K, V> stripe = stripeFor(key);
+
+        final @Nullable V value = stripe.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+
+        return stripe.putIfAbsent(key, mappingFunction.apply(key));
+    }
+
+    @Nullable
+    V getIfPresent(final K key) {
+        return stripeFor(key).getIfPresent(key);
+    }
+
+    /**
+     * @return The value already cached for {@code key}, or {@code value} if there was none
+     */
+    V putIfAbsent(final K key, final V value) {
+        return stripeFor(key).putIfAbsent(key, value);
+    }
+
+    int size() {
+        int size = 0;
+        for (final Stripe<K, V> stripe : stripes) {
+            size += stripe.size();
+        }
+
+        return size;
+    }
+
+    CacheStats stats() {
+        long hitCount = 0;
+        long missCount = 0;
+        long evictionCount = 0;
+        for (final Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                hitCount += stripe.hitCount;
+                missCount += stripe.missCount;
+                evictionCount += stripe.evictionCount;
+            }
+        }
+
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    void clear() {
+        for (final Stripe<K, V> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private Stripe<K, V> stripeFor(final K key) {
+        if (stripes.length == 1) {
+            return stripes[0];
+        }
+
+        // Spread the higher bits, as hash codes of similar keys often differ in their lower bits only.
+        final int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe<K, V> {
+
+        private final int maximumSize;
+        private final int protectedCapacity;
+        private final LinkedHashMap<K, V> protectedEntries = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+        private final LinkedHashMap<K, V> probationEntries = new LinkedHashMap<>(16, 0.75f, /* accessOrder */ true);
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+
+        private Stripe(final int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.protectedCapacity = maximumSize * 4 / 5;
+        }
+
+        @Nullable
+        private synchronized V getIfPresent(final K key) {
+            final @Nullable V protectedValue = protectedEntries.get(key);
+            if (protectedValue != null) {
+                hitCount++;
+                return protectedValue;
+            }
+
+            final @Nullable V probationValue = probationEntries.remove(key);
+            if (probationValue == null) {
+                missCount++;
+                return null;
+            }
+
+            hitCount++;
+            protectedEntries.put(key, probationValue);
+            if (protectedEntries.size() > protectedCapacity) {
+                final Iterator<Map.Entry<K, V>> iterator =
+                        protectedEntries.entrySet().iterator();
+                final Map.Entry<K, V> eldest = iterator.next();
+                iterator.remove();
+                admitToProbation(eldest.getKey(), eldest.getValue());
+            }
+
+            return probationValue;
+        }
+
+        private synchronized V putIfAbsent(final K key, final V value) {
+            final @Nullable V protectedValue = protectedEntries.get(key);
+            if (protectedValue != null) {
+                return protectedValue;
+            }
+            final @Nullable V probationValue = probationEntries.get(key);
+            if (probationValue != null) {
+                return probationValue;
+            }
+
+            admitToProbation(key, value);
+            return value;
+        }
+
+        private void admitToProbation(final K key, final V value) {
+            probationEntries.put(key, value);
+            if (protectedEntries.size() + probationEntries.size() > maximumSize) {
+                final Iterator<K> iterator = probationEntries.keySet().iterator();
+                iterator.next();
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+
+        private synchronized int size() {
+            return protectedEntries.size() + probationEntries.size();
+        }
+
+        private synchronized void clear() {
+            protectedEntries.clear();
+            probationEntries.clear();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Recommends versions to upgrade to, in order to no longer be affected by any of a set of {@link Vers} ranges.
+ * <p>
+ * Ranges are compiled against a {@link VersionCatalogue} of available versions, such that
+ * affected versions are skipped run by run, rather than checking each newer version against each range.
+ *
+ * @since 0.24.0
+ */
+public final class UpgradeRecommender {
+
+    public enum Policy {
+
+        /**
+         * Recommend the lowest newer version that is not affected. This is the default.
+         */
+        MINIMAL_BUMP,
+
+        /**
+         * Only recommend versions with the same major version as the current version,
+         * i.e. the same leading numeric component, ignoring a {@code v} prefix.
+         * <p>
+         * For versions with an epoch, e.g. {@code 1:2.0-1} of the {@code deb} scheme or {@code 1!2.0}
+         * of the {@code pypi} scheme, the epoch must be the same as well. A missing epoch equals {@code 0}.
+         */
+        SAME_MAJOR,
+
+        /**
+         * Only recommend {@link Version#isStable() stable} versions.
+         */
+        STABLE_ONLY
+    }
+
+    private final VersionCatalogue catalogue;
+
+    /**
+     * @param catalogue The versions available to upgrade to
+     */
+    public UpgradeRecommender(VersionCatalogue catalogue) {
+        this.catalogue = requireNonNull(catalogue, "catalogue must not be null");
+    }
+
+    /**
+     * Recommends the lowest version greater than {@code currentVersion} that is contained in none
+     * of {@code ranges}, and satisfies all of {@code policies}.
+     *
+     * @param currentVersion The version currently in use
+     * @param ranges         The ranges to no longer be affected by
+     * @param policies       The policies recommended versions must satisfy
+     * @return The recommended version, or {@link Optional#empty()} when no available version qualifies
+     * @throws VersException When any of the ranges is of a different scheme than the catalogue
+     */
+    public Optional<Version> recommend(Version currentVersion, Collection<Vers> ranges, Policy... policies) {
+        requireNonNull(currentVersion, "currentVersion must not be null");
+        requireNonNull(ranges, "ranges must not be null");
+
+        final Set<Policy> policySet = EnumSet.noneOf(Policy.class);
+        policySet.addAll(List.of(policies));
+        final boolean sameMajor = policySet.contains(Policy.SAME_MAJOR);
+        final boolean stableOnly = policySet.contains(Policy.STABLE_ONLY);
+
+        OrdinalBitmap affected = OrdinalBitmap.empty();
+        for (final Vers vers : ranges) {
+            affected = affected.or(catalogue.compile(vers).toBitmap());
+        }
+
+        final String currentMajor = sameMajor ? majorOf(currentVersion) : "";
+        int ordinal = affected.nextClearOrdinal(catalogue.firstOrdinalAbove(currentVersion));
+        while (ordinal < catalogue.size()) {
+            final Version candidate = catalogue.get(ordinal);
+
+            // Candidates are sorted, so once the major version changes, it never changes back.
+            if (sameMajor && !currentMajor.equals(majorOf(candidate))) {
+                break;
+            }
+            if (!stableOnly || candidate.isStable()) {
+                return Optional.of(candidate);
+            }
+
+            ordinal = affected.nextClearOrdinal(ordinal + 1);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * @return The epoch and the leading numeric component of {@code version}, without leading zeros
+     */
+    private static String majorOf(Version version) {
+        final String versionStr = version.toString();
+
+        // Epochs take precedence over any other component when comparing versions,
+        // so they must be part of the major for it to never change back in sorted order.
+        String epoch = "0";
+        int start = 0;
+        final int epochEnd = endOfDigits(versionStr, 0);
+        if (epochEnd > 0
+                && epochEnd < versionStr.length()
+                && (versionStr.charAt(epochEnd) == ':' || versionStr.charAt(epochEnd) == '!')) {
+            epoch = withoutLeadingZeros(versionStr.substring(0, epochEnd));
+            start = epochEnd + 1;
+        }
+
+        if (versionStr.startsWith("v", start) || versionStr.startsWith("V", start)) {
+            start++;
+        }
+
+        return epoch + ':' + withoutLeadingZeros(versionStr.substring(start, endOfDigits(versionStr, start)));
+    }
+
+    private static int endOfDigits(String str, int start) {
+        int end = start;
+        while (end < str.length() && Character.isDigit(str.charAt(end))) {
+            end++;
+        }
+
+        return end;
+    }
+
+    private static String withoutLeadingZeros(String digits) {
+        int start = 0;
+        while (start < digits.length() - 1 && digits.charAt(start) == '0') {
+            start++;
+        }
+
+        return digits.substring(start);
+    }
+}
@@ -21,32 +21,81 @@ package io.github.nscuro.versatile;
 import static java.util.Objects.requireNonNull;
 import static java.util.function.Predicate.not;
 
+import io.github.nscuro.versatile.ParseResult.ErrorCode;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 /**
  * A version range as defined in the vers specification.
+ * <p>
+ * A range consists of the versioning scheme it applies to, and of the {@link Constraint}s composing it.
+ * <p>
+ * Prior to 0.24.0, {@link Vers} was a record. It can no longer be deconstructed using record patterns,
+ * use the {@link #scheme()} and {@link #constraints()} accessors instead.
  *
- * @param scheme      The versioning scheme of this version range
- * @param constraints The {@link Constraint}s composing this version range
  * @see <a href="https://github.com/package-url/vers-spec">vers specification</a>
  */
-public record Vers(String scheme, List<Constraint> constraints) {
+public final class Vers {
 
-    public Vers {
+    private final String scheme;
+    private final List<Constraint> constraints;
+
+    /**
+     * Whether the order of constraints has been verified, if required.
+     * Only ranges created by {@link #parseLazy(String)} start out unverified.
+     */
+    private volatile boolean orderVerified;
+
+    /**
+     * Whether this range is known to satisfy the {@code vers} spec's rules.
+     * Set once {@link #findViolation()} found no violation, such that repeated validation is free.
+     */
+    private volatile boolean validated;
+
+    /**
+     * Lazily computed result of {@link #intervals()}.
+     */
+    private volatile @Nullable List<Interval> intervals;
+
+    /**
+     * Lazily computed result of {@link #split()}.
+     */
+    private volatile @Nullable List<Vers> splitVers;
+
+    /**
+     * Cached result of {@link #hashCode()}, or {@code 0} if not computed yet.
+     */
+    private int hash;
+
+    /**
+     * Cached result of {@link #toString()}.
+     */
+    private @Nullable String string;
+
+    /**
+     * @param scheme      The versioning scheme of this version range
+     * @param constraints The {@link Constraint}s composing this version range
+     */
+    public Vers(String scheme, List<Constraint> constraints) {
+        this(scheme, constraints, /* orderVerified */ true);
+    }
+
+    private Vers(String scheme, List<Constraint> constraints, boolean orderVerified) {
         requireNonNull(scheme, "scheme must not be null");
         requireNonNull(constraints, "constraints must not be null");
         if (constraints.isEmpty()) {
             throw new VersException("constraints must not be empty");
         }
-        constraints = List.copyOf(constraints);
+        this.scheme = scheme;
+        this.constraints = List.copyOf(constraints);
+        this.orderVerified = orderVerified;
     }
 
     /**
@@ -69,7 +118,20 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @since 0.20.0
      */
     public static Vers parse(String versString) {
-        return parse(versString, /* strict */ true);
+        return tryParse(versString, /* strict */ true, /* lazy */ false, VersionFactory.defaultFactory())
+                .orElseThrow();
+    }
+
+    /**
+     * Parses a canonical {@code vers} string, creating versions using a given {@link VersionFactory}.
+     *
+     * @throws VersException if the provided value is not a valid {@code vers} range.
+     * @see #parse(String)
+     * @since 0.24.0
+     */
+    public static Vers parse(String versString, VersionFactory versionFactory) {
+        return tryParse(versString, /* strict */ true, /* lazy */ false, versionFactory)
+                .orElseThrow();
     }
 
     /**
@@ -84,91 +146,307 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @since 0.20.0
      */
     public static Vers parseLenient(String versString) {
-        return parse(versString, /* strict */ false);
+        return tryParse(versString, /* strict */ false, /* lazy */ false, VersionFactory.defaultFactory())
+                .orElseThrow();
+    }
+
+    /**
+     * Parses a possibly non-canonical {@code vers} string, creating versions using a given {@link VersionFactory}.
+     *
+     * @throws VersException if the provided value is not a valid {@code vers} range.
+     * @see #parseLenient(String)
+     * @since 0.24.0
+     */
+    public static Vers parseLenient(String versString, VersionFactory versionFactory) {
+        return tryParse(versString, /* strict */ false, /* lazy */ false, versionFactory)
+                .orElseThrow();
+    }
+
+    /**
+     * Attempts to parse a canonical {@code vers} string.
+     * <p>
+     * Behaves like {@link #parse(String)}, but reports invalid input as a failed {@link ParseResult}
+     * instead of throwing an exception. Prefer this method when invalid input is expected to be common.
+     *
+     * @see #parse(String)
+     * @since 0.24.0
+     */
+    public static ParseResult<Vers> tryParse(String versString) {
+        return tryParse(versString, /* strict */ true, /* lazy */ false, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @see #tryParse(String)
+     * @see #parse(String, VersionFactory)
+     * @since 0.24.0
+     */
+    public static ParseResult<Vers> tryParse(String versString, VersionFactory versionFactory) {
+        return tryParse(versString, /* strict */ true, /* lazy */ false, versionFactory);
+    }
+
+    /**
+     * Attempts to parse a possibly non-canonical {@code vers} string.
+     * <p>
+     * Behaves like {@link #parseLenient(String)}, but reports invalid input as a failed {@link ParseResult}
+     * instead of throwing an exception. Prefer this method when invalid input is expected to be common.
+     *
+     * @see #parseLenient(String)
+     * @since 0.24.0
+     */
+    public static ParseResult<Vers> tryParseLenient(String versString) {
+        return tryParse(versString, /* strict */ false, /* lazy */ false, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @see #tryParseLenient(String)
+     * @see #parseLenient(String, VersionFactory)
+     * @since 0.24.0
+     */
+    public static ParseResult<Vers> tryParseLenient(String versString, VersionFactory versionFactory) {
+        return tryParse(versString, /* strict */ false, /* lazy */ false, versionFactory);
     }
 
-    private static Vers parse(String versString, boolean strict) {
+    /**
+     * Parses a canonical {@code vers} string, deferring the creation of versions until they are first needed.
+     * <p>
+     * Only the syntax of {@code versString} is validated upfront, which includes everything that
+     * {@link #parse(String)} validates, except for the versions themselves and the order of constraints.
+     * Versions are created, and the order of constraints is verified, when the range is first used by
+     * {@link #contains(String)}, {@link #simplify()}, {@link #overlapsWith(Vers)}, or any other operation
+     * that requires versions. Any violation is reported by that operation instead.
+     * <p>
+     * This is useful when many ranges are loaded, but only few of them are ever evaluated.
+     * Lazily parsed ranges are safe to use from multiple threads.
+     *
+     * @throws VersException if the provided value is not a syntactically valid {@code vers} range.
+     * @see #parse(String)
+     * @since 0.24.0
+     */
+    public static Vers parseLazy(String versString) {
+        return tryParse(versString, /* strict */ true, /* lazy */ true, VersionFactory.defaultFactory())
+                .orElseThrow();
+    }
+
+    /**
+     * Parses a canonical {@code vers} string, deferring the creation of versions until they are first needed.
+     *
+     * @throws VersException if the provided value is not a syntactically valid {@code vers} range.
+     * @see #parseLazy(String)
+     * @since 0.24.0
+     */
+    public static Vers parseLazy(String versString, VersionFactory versionFactory) {
+        return tryParse(versString, /* strict */ true, /* lazy */ true, versionFactory)
+                .orElseThrow();
+    }
+
+    private static ParseResult<Vers> tryParse(
+            String versString, boolean strict, boolean lazy, VersionFactory versionFactory) {
         requireNonNull(versString, "versString must not be null");
+        requireNonNull(versionFactory, "versionFactory must not be null");
+
+        // NB: Failures are reported without constructing exceptions. Their messages are
+        // only assembled if the caller asks for them, hence the exception suppliers.
         if (versString.isBlank()) {
-            throw new VersException("vers string must not be null or blank");
+            return ParseResult.failure(
+                    ErrorCode.BLANK_INPUT, 0, () -> new VersException("vers string must not be null or blank"));
         }
-        if (strict && containsWhitespace(versString)) {
-            throw new VersException("vers string must not contain whitespace: \"%s\"".formatted(versString));
+        if (strict) {
+            final int whitespaceIndex = indexOfWhitespace(versString);
+            if (whitespaceIndex >= 0) {
+                return ParseResult.failure(
+                        ErrorCode.CONTAINS_WHITESPACE,
+                        whitespaceIndex,
+                        () -> new VersException(
+                                "vers string must not contain whitespace: \"%s\"".formatted(versString)));
+            }
         }
 
-        String[] parts = versString.split(":", 2);
-        if (parts.length != 2) {
-            throw new VersException(
-                    "vers string does not contain a URI scheme separator: \"%s\"".formatted(versString));
+        final int uriSchemeEnd = versString.indexOf(':');
+        if (uriSchemeEnd < 0) {
+            return ParseResult.failure(
+                    ErrorCode.MISSING_URI_SCHEME_SEPARATOR,
+                    versString.length(),
+                    () -> new VersException(
+                            "vers string does not contain a URI scheme separator: \"%s\"".formatted(versString)));
         }
 
-        if (!"vers".equals(parts[0])) {
-            throw new VersException(
-                    "URI scheme must be \"vers\", but is \"%s\" in \"%s\"".formatted(parts[0], versString));
+        if (uriSchemeEnd != 4 || !versString.startsWith("vers")) {
+            return ParseResult.failure(
+                    ErrorCode.INVALID_URI_SCHEME,
+                    0,
+                    () -> new VersException("URI scheme must be \"vers\", but is \"%s\" in \"%s\""
+                            .formatted(versString.substring(0, uriSchemeEnd), versString)));
         }
 
-        parts = parts[1].split("/", 2);
-        if (parts.length != 2) {
-            throw new VersException(
-                    "vers string does not contain a versioning scheme separator: \"%s\"".formatted(versString));
+        final int schemeEnd = versString.indexOf('/', uriSchemeEnd + 1);
+        if (schemeEnd < 0) {
+            return ParseResult.failure(
+                    ErrorCode.MISSING_VERSIONING_SCHEME_SEPARATOR,
+                    versString.length(),
+                    () -> new VersException("vers string does not contain a versioning scheme separator: \"%s\""
+                            .formatted(versString)));
         }
 
-        final String scheme = parts[0];
-        if (scheme.isBlank()) {
-            throw new VersException("scheme must not be blank in \"%s\"".formatted(versString));
+        final String rawScheme = versString.substring(uriSchemeEnd + 1, schemeEnd);
+        if (rawScheme.isBlank()) {
+            return ParseResult.failure(
+                    ErrorCode.BLANK_VERSIONING_SCHEME,
+                    uriSchemeEnd + 1,
+                    () -> new VersException("scheme must not be blank in \"%s\"".formatted(versString)));
         }
+        final String scheme = versionFactory.canonicalScheme(rawScheme);
 
-        String constraintsString = parts[1];
-        if ("*".equals(constraintsString)) {
-            return new Vers(scheme, List.of(new Constraint(scheme, Comparator.WILDCARD, null)));
+        int constraintsStart = schemeEnd + 1;
+        int constraintsEnd = versString.length();
+        if (constraintsEnd - constraintsStart == 1 && versString.charAt(constraintsStart) == '*') {
+            return ParseResult.success(new Vers(scheme, List.of(new Constraint(scheme, Comparator.WILDCARD, null))));
         }
 
         if (strict) {
-            if (constraintsString.startsWith("|")) {
-                throw new VersException("constraints must not start with a pipe in \"%s\"".formatted(versString));
+            if (constraintsStart < constraintsEnd && versString.charAt(constraintsStart) == '|') {
+                return ParseResult.failure(
+                        ErrorCode.LEADING_PIPE,
+                        constraintsStart,
+                        () -> new VersException(
+                                "constraints must not start with a pipe in \"%s\"".formatted(versString)));
             }
-            if (constraintsString.endsWith("|")) {
-                throw new VersException("constraints must not end with a pipe in \"%s\"".formatted(versString));
+            if (constraintsStart < constraintsEnd && versString.charAt(constraintsEnd - 1) == '|') {
+                return ParseResult.failure(
+                        ErrorCode.TRAILING_PIPE,
+                        constraintsEnd - 1,
+                        () -> new VersException(
+                                "constraints must not end with a pipe in \"%s\"".formatted(versString)));
             }
-            if (constraintsString.contains("||")) {
-                throw new VersException(
-                        "constraints must not contain consecutive pipes in \"%s\"".formatted(versString));
+            final int consecutivePipesIndex = versString.indexOf("||", constraintsStart);
+            if (consecutivePipesIndex >= 0) {
+                return ParseResult.failure(
+                        ErrorCode.CONSECUTIVE_PIPES,
+                        consecutivePipesIndex,
+                        () -> new VersException(
+                                "constraints must not contain consecutive pipes in \"%s\"".formatted(versString)));
             }
         } else {
-            constraintsString = constraintsString.replaceAll("^\\|+", "").replaceAll("\\|+$", "");
+            while (constraintsStart < constraintsEnd && versString.charAt(constraintsStart) == '|') {
+                constraintsStart++;
+            }
+            while (constraintsEnd > constraintsStart && versString.charAt(constraintsEnd - 1) == '|') {
+                constraintsEnd--;
+            }
         }
 
-        parts = constraintsString.split("\\|");
-        if (parts.length == 0) {
-            throw new VersException("vers string contains no constraints: \"%s\"".formatted(versString));
+        final var constraints = new ArrayList<Constraint>();
+        int constraintStart = constraintsStart;
+        while (true) {
+            int constraintEnd = versString.indexOf('|', constraintStart);
+            if (constraintEnd < 0 || constraintEnd > constraintsEnd) {
+                constraintEnd = constraintsEnd;
+            }
+
+            final ParseResult<Constraint> constraintResult = Constraint.tryParse(
+                    scheme,
+                    versString.substring(constraintStart, constraintEnd),
+                    strict,
+                    lazy,
+                    versionFactory,
+                    constraintStart);
+            if (!constraintResult.isSuccess()) {
+                return constraintResult.asFailure();
+            }
+            constraints.add(constraintResult.orElseThrow());
+
+            if (constraintEnd >= constraintsEnd) {
+                break;
+            }
+            constraintStart = constraintEnd + 1;
         }
 
-        Stream<Constraint> constraintStream = Arrays.stream(parts).map(part -> Constraint.parse(scheme, part, strict));
         if (!strict) {
-            constraintStream = constraintStream.sorted();
+            constraints.sort(null);
+            return ParseResult.success(new Vers(scheme, constraints));
         }
-        final List<Constraint> constraints = constraintStream.toList();
 
-        if (!strict) {
-            return new Vers(scheme, constraints);
+        if (!lazy) {
+            final Violation orderViolation = findOrderViolation(constraints, versString);
+            if (orderViolation != null) {
+                return ParseResult.failure(
+                        orderViolation.errorCode(),
+                        constraintOffset(versString, schemeEnd + 1, orderViolation.constraintIndex()),
+                        orderViolation.exceptionSupplier());
+            }
+        }
+
+        final Vers vers = new Vers(scheme, constraints, /* orderVerified */ !lazy);
+        final Violation violation = vers.findViolation();
+        if (violation != null) {
+            return ParseResult.failure(
+                    violation.errorCode(),
+                    constraintOffset(versString, schemeEnd + 1, violation.constraintIndex()),
+                    violation.exceptionSupplier());
         }
 
+        return ParseResult.success(vers);
+    }
+
+    /**
+     * @param input The input to refer to in error messages
+     */
+    private static @Nullable Violation findOrderViolation(List<Constraint> constraints, String input) {
         for (int i = 0; i + 1 < constraints.size(); i++) {
             final Constraint curr = constraints.get(i);
             final Constraint next = constraints.get(i + 1);
             final int cmp = curr.compareTo(next);
             if (cmp > 0) {
-                throw new VersException("constraints must be sorted by version, but \"%s\" precedes \"%s\" in \"%s\""
-                        .formatted(curr, next, versString));
+                return new Violation(
+                        ErrorCode.UNSORTED_CONSTRAINTS,
+                        i + 1,
+                        () -> new VersException(
+                                "constraints must be sorted by version, but \"%s\" precedes \"%s\" in \"%s\""
+                                        .formatted(curr, next, input)));
             }
             if (cmp == 0) {
-                throw new VersException(
-                        "version \"%s\" must occur only once, but is used by both \"%s\" and \"%s\" in \"%s\""
-                                .formatted(curr.version(), curr, next, versString));
+                return new Violation(
+                        ErrorCode.DUPLICATE_VERSION,
+                        i + 1,
+                        () -> new VersException(
+                                "version \"%s\" must occur only once, but is used by both \"%s\" and \"%s\" in \"%s\""
+                                        .formatted(curr.version(), curr, next, input)));
             }
         }
 
-        return new Vers(scheme, constraints).validate();
+        return null;
+    }
+
+    /**
+     * Creates the versions of a lazily parsed range, and verifies the order of its constraints.
+     *
+     * @throws VersException When the constraints are not in canonical order
+     * @throws io.github.nscuro.versatile.spi.InvalidVersionException When any version is invalid
+     * @see #parseLazy(String)
+     */
+    private void ensureOrderVerified() {
+        if (orderVerified) {
+            return;
+        }
+
+        // Benign race: verification is idempotent, so concurrent callers may both perform it.
+        final Violation violation = findOrderViolation(constraints, toString());
+        if (violation != null) {
+            throw violation.exceptionSupplier().get();
+        }
+
+        orderVerified = true;
+    }
+
+    /**
+     * @return Offset of the constraint at {@code index}, given the offset of the first constraint
+     */
+    private static int constraintOffset(String versString, int constraintsStart, int index) {
+        int offset = constraintsStart;
+        for (int i = 0; i < index; i++) {
+            offset = versString.indexOf('|', offset) + 1;
+        }
+
+        return offset;
     }
 
     /**
@@ -181,14 +459,29 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * <strong>Note:</strong> {@code !=} constraints become standalone sub-ranges
      * and thus lose their exclusionary effect.
      *
-     * @return A {@link List} of sub-ranges.
+     * <p>
+     * The sub-ranges are computed once and cached.
+     *
+     * @return An immutable {@link List} of sub-ranges.
      * @throws VersException When the (simplified) range is invalid.
+     * @see #intervals()
      */
     public List<Vers> split() {
+        List<Vers> splitVers = this.splitVers;
+        if (splitVers == null) {
+            // Benign race: splitting is idempotent, so concurrent callers may both perform it.
+            splitVers = List.copyOf(splitUncached());
+            this.splitVers = splitVers;
+        }
+
+        return splitVers;
+    }
+
+    private List<Vers> splitUncached() {
         // Pairing bounds requires no redundant constraints , and validate() ensures
         // what's left really is an alternating sequence.
         //
-        // Vers instances constructed via parseLenient or record constructor will not
+        // Vers instances constructed via parseLenient or the constructor will not
         // be validated yet, hence we do it here.
         final Vers simplified = this.simplify().validate();
         final var versList = new ArrayList<Vers>();
@@ -231,21 +524,51 @@ public record Vers(String scheme, List<Constraint> constraints) {
     }
 
     public static Builder builder(String versioningScheme) {
-        return new Builder(versioningScheme);
+        return new Builder(versioningScheme, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @since 0.24.0
+     */
+    public static Builder builder(String versioningScheme, VersionFactory versionFactory) {
+        requireNonNull(versionFactory, "versionFactory must not be null");
+        return new Builder(versionFactory.canonicalScheme(versioningScheme), versionFactory);
     }
 
     public String scheme() {
         return scheme;
     }
 
+    public List<Constraint> constraints() {
+        return constraints;
+    }
+
     public boolean isWildcard() {
         return constraints.size() == 1 && constraints.getFirst().comparator() == Comparator.WILDCARD;
     }
 
     public boolean contains(final String versionStr) {
+        return contains(versionStr, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * Checks whether this range contains a version, which is created using a given {@link VersionFactory}.
+     *
+     * @see #contains(String)
+     * @since 0.24.0
+     */
+    public boolean contains(final String versionStr, final VersionFactory versionFactory) {
+        ensureOrderVerified();
+
         // Select the version equality and comparison procedures suitable for this
         // versioning scheme and use these for all version comparisons performed below.
-        final Version testedVersion = VersionFactory.forScheme(scheme, versionStr);
+        final Version testedVersion = versionFactory.parse(scheme, versionStr);
+
+        // NB: Valid ranges are equivalent to their interval view, which can be searched in logarithmic time.
+        // Invalid ranges, e.g. parsed leniently, are evaluated as the spec describes it.
+        if (findViolation() == null) {
+            return Intervals.contains(intervals(), testedVersion);
+        }
 
         // If the constraint list contains only one item and the comparator is "*",
         // then the "tested version" is IN the range. Check is finished.
@@ -377,6 +700,8 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @see <a href="https://github.com/package-url/vers-spec/blob/8a5ccc758922b7b3e49cb587f631b31f5ecb3096/docs/specification/how-to-parse.md#constraints-simplification">Constraint simplification specification</a>
      */
     public Vers simplify() {
+        ensureOrderVerified();
+
         // Start from a list of constraints of comparator and version, sorted by
         // version and where each version occurs only once in any constraint.
 
@@ -389,97 +714,70 @@ public record Vers(String scheme, List<Constraint> constraints) {
         // Split the constraints list in two sub lists:
         //   * a list of "unequal constraints" where the comparator is "!="
         //   * a remainder list of "constraints" where the comparator is not "!="
-        final List<Constraint> unequalConstraints = constraints.stream()
-                .filter(constraint -> constraint.comparator() == Comparator.NOT_EQUAL)
-                .toList();
-        final List<Constraint> remainderConstraints = constraints.stream()
-                .filter(constraint -> constraint.comparator() != Comparator.NOT_EQUAL)
-                .collect(Collectors.toList()); // This list must be mutable
+        //
+        // NB: The spec's cursor-based iteration discards constraints until no more of them can be discarded.
+        // The remainder is kept as a stack instead, which reaches the same result in a single pass:
+        // a constraint is only pushed once the rules no longer apply to it and the constraint below it.
+        final var unequalConstraints = new Constraint[constraints.size()];
+        final var remainderConstraints = new Constraint[constraints.size()];
+        int unequalCount = 0, remainderCount = 0;
 
-        // If the remainder list of "constraints" is empty, return the "unequal constraints"
-        // list and simplification is finished.
-        if (remainderConstraints.isEmpty()) {
-            return new Vers(scheme, unequalConstraints);
-        }
-
-        // Iterate over the constraints list, considering the current and next contiguous constraints,
-        // and the previous constraint (e.g., before current) if it exists:
-        int currIndex = 0, nextIndex = 0;
-        while (currIndex < remainderConstraints.size() - 1) {
-            nextIndex = currIndex + 1;
-
-            final Constraint currConstraint = remainderConstraints.get(currIndex);
-            final Constraint nextConstraint = remainderConstraints.get(nextIndex);
-            final Comparator currComparator = currConstraint.comparator();
-            final Comparator nextComparator = nextConstraint.comparator();
-
-            // NB: The spec does not say what happens to the cursor when a constraint is discarded.
-            // Advancing unconditionally leaves runs of same-direction bounds behind
-            // (e.g. ">=1|>=2|>=3" would simplify to the invalid ">=1|>=3"), so the current
-            // and next constraints are re-considered until no more of them can be discarded.
-            boolean discarded = false;
-
-            // If current comparator is ">" or ">=" and next comparator is "=", ">" or ">=", discard next constraint.
-            if (isLowerBoundComparator(currComparator)
-                    && (nextComparator == Comparator.EQUAL || isLowerBoundComparator(nextComparator))) {
-                remainderConstraints.remove(nextIndex);
-                discarded = true;
-            }
-
-            // If current comparator is "=", "<" or "<=" and next comparator is <" or <=", discard current constraint.
-            if ((currComparator == Comparator.EQUAL || isUpperBoundComparator(currComparator))
-                    && isUpperBoundComparator(nextComparator)) {
-                remainderConstraints.remove(currIndex);
-                discarded = true;
-
-                // Previous constraint becomes current if it exists.
-                if (currIndex > 0) {
-                    currIndex -= 1;
-                }
+        for (final Constraint constraint : constraints) {
+            final Comparator comparator = constraint.comparator();
+            if (comparator == Comparator.NOT_EQUAL) {
+                unequalConstraints[unequalCount++] = constraint;
+                continue;
             }
 
-            // If there is a previous constraint:
-            if (currIndex > 0) {
-                final Comparator prevComparator =
-                        remainderConstraints.get(currIndex - 1).comparator();
-
-                // NB: The rules above may have discarded the current constraint, in which case
-                // currIndex now points to a different one. Look up its comparator again instead of
-                // reusing currComparator, which may be stale.
-                final Comparator comparator =
-                        remainderConstraints.get(currIndex).comparator();
-
+            if (remainderCount > 0) {
                 // If previous comparator is ">" or ">=" and current comparator is "=", ">" or ">=",
                 // discard current constraint.
+                final Comparator prevComparator = remainderConstraints[remainderCount - 1].comparator();
                 if (isLowerBoundComparator(prevComparator)
                         && (comparator == Comparator.EQUAL || isLowerBoundComparator(comparator))) {
-                    remainderConstraints.remove(currIndex);
-                    discarded = true;
+                    continue;
                 }
 
-                // If previous comparator is "=", "<" or "<=" and current comparator is <" or <=",
-                // discard previous constraint.
-                else if ((prevComparator == Comparator.EQUAL || isUpperBoundComparator(prevComparator))
-                        && isUpperBoundComparator(comparator)) {
-                    remainderConstraints.remove(currIndex - 1);
-                    discarded = true;
-                    currIndex -= 1;
+                // If previous comparators are "=", "<" or "<=" and current comparator is "<" or "<=",
+                // discard previous constraints.
+                if (isUpperBoundComparator(comparator)) {
+                    while (remainderCount > 0) {
+                        final Comparator topComparator = remainderConstraints[remainderCount - 1].comparator();
+                        if (topComparator != Comparator.EQUAL && !isUpperBoundComparator(topComparator)) {
+                            break;
+                        }
+
+                        remainderCount--;
+                    }
                 }
             }
 
-            if (!discarded) {
-                currIndex++;
-            }
+            remainderConstraints[remainderCount++] = constraint;
         }
 
-        // Concatenate the "unequal constraints" list and the filtered "constraints" list.
-        final List<Constraint> simplifiedConstraints = Stream.concat(
-                        remainderConstraints.stream(), unequalConstraints.stream())
-                .distinct()
-                .sorted()
-                .toList();
+        // If the remainder list of "constraints" is empty, return the "unequal constraints"
+        // list and simplification is finished.
+        if (remainderCount == 0) {
+            return new Vers(scheme, Arrays.asList(unequalConstraints).subList(0, unequalCount));
+        }
+        if (unequalCount == 0 && remainderCount == constraints.size()) {
+            return this;
+        }
 
-        return new Vers(scheme, simplifiedConstraints);
+        // Merge the "unequal constraints" list and the filtered "constraints" list.
+        // Both are sorted by version already, so the merge retains the order.
+        final var simplifiedConstraints = new Constraint[remainderCount + unequalCount];
+        int i = 0, j = 0, k = 0;
+        while (i < remainderCount || j < unequalCount) {
+            if (j >= unequalCount
+                    || (i < remainderCount && remainderConstraints[i].compareTo(unequalConstraints[j]) <= 0)) {
+                simplifiedConstraints[k++] = remainderConstraints[i++];
+            } else {
+                simplifiedConstraints[k++] = unequalConstraints[j++];
+            }
+        }
+
+        return new Vers(scheme, Arrays.asList(simplifiedConstraints));
     }
 
     /**
@@ -493,77 +791,116 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @throws VersException When this range is invalid.
      */
     public Vers validate() {
+        ensureOrderVerified();
+
+        final Violation violation = findViolation();
+        if (violation != null) {
+            throw violation.exceptionSupplier().get();
+        }
+
+        return this;
+    }
+
+    /**
+     * A violation of the {@code vers} spec's rules, as detected by {@link #findViolation()}.
+     *
+     * @param errorCode         Code of the violation
+     * @param constraintIndex   Index of the offending constraint
+     * @param exceptionSupplier Supplier of the exception describing the violation
+     */
+    private record Violation(
+            ErrorCode errorCode, int constraintIndex, Supplier<VersException> exceptionSupplier) {}
+
+    private @Nullable Violation findViolation() {
+        if (validated) {
+            return null;
+        }
+
         // The special star "*" comparator matches any version.
         // It must be used alone exclusive of any other constraint and must not be followed by a version.
         // For example "vers:deb/*" represent all the versions of a Debian package.
         // This includes past, current and possible future versions.
-        // https://github.com/package-url/vers-spec/blob/main/docs/standard/specification.md#version-constraints
-        boolean containsWildcard = false;
-        for (final Constraint constraint : constraints) {
-            if (constraint.comparator() == Comparator.WILDCARD) {
-                containsWildcard = true;
-                break;
-            }
-        }
-        if (containsWildcard && constraints.size() > 1) {
-            throw new VersException("""
-                    Invalid range %s: wildcard is only allowed \
-                    with a single constraint""".formatted(this));
-        }
-
+        //
         // Ignoring all constraints with "!=" comparators...
-        final List<Constraint> tmpConstraints = new ArrayList<>(constraints.size());
-        for (final Constraint constraint : constraints) {
-            if (constraint.comparator() != Comparator.NOT_EQUAL) {
-                tmpConstraints.add(constraint);
+        //   * A "=" constraint must be followed only by a constraint with one of "=", ">", ">=" as comparator
+        //     (or no constraint).
+        // ... and ignoring all constraints with "=" comparators as well, the sequence of constraint comparators
+        // must be an alternation of greater and lesser comparators:
+        //   * "<" and "<=" must be followed by one of ">", ">=" (or no constraint).
+        //   * ">" and ">=" must be followed by one of "<", "<=" (or no constraint).
+        //
+        // All rules are checked in a single pass. Violations of the latter rules are only reported
+        // after the pass, such that a misplaced wildcard takes precedence over them, and a misplaced "="
+        // takes precedence over a broken alternation.
+        @Nullable Comparator prevComparator = null;
+        @Nullable Comparator prevBoundComparator = null;
+        int equalityViolationIndex = -1;
+        int alternationViolationIndex = -1;
+        boolean alternationViolatedByUpperBound = false;
+
+        for (int i = 0; i < constraints.size(); i++) {
+            final Comparator comparator = constraints.get(i).comparator();
+            if (comparator == Comparator.WILDCARD) {
+                if (constraints.size() > 1) {
+                    return new Violation(ErrorCode.INVALID_WILDCARD, i, () -> new VersException("""
+                            Invalid range %s: wildcard is only allowed \
+                            with a single constraint""".formatted(this)));
+                }
+                continue;
+            }
+            if (comparator == Comparator.NOT_EQUAL) {
+                continue;
             }
-        }
-        if (tmpConstraints.size() < 2) {
-            // No, or only one constraint remaining; Nothing to validate anymore.
-            return this;
-        }
 
-        // A "=" constraint must be followed only by a constraint with one of "=", ">", ">=" as comparator (or no
-        // constraint).
-        for (int i = 0; i + 1 < tmpConstraints.size(); i++) {
-            final Comparator currComparator = tmpConstraints.get(i).comparator();
-            final Comparator nextComparator = tmpConstraints.get(i + 1).comparator();
+            if (equalityViolationIndex < 0
+                    && prevComparator == Comparator.EQUAL
+                    && comparator != Comparator.EQUAL
+                    && !isLowerBoundComparator(comparator)) {
+                equalityViolationIndex = i;
+            }
+            prevComparator = comparator;
+            if (comparator == Comparator.EQUAL) {
+                continue;
+            }
 
-            if (currComparator == Comparator.EQUAL
-                    && nextComparator != Comparator.EQUAL
-                    && !isLowerBoundComparator(nextComparator)) {
-                throw new VersException("""
-                        Invalid range %s: A = comparator must only be \
-                        followed by a > or >= operator, but got: %s""".formatted(this, nextComparator.operator()));
+            if (alternationViolationIndex < 0 && prevBoundComparator != null) {
+                final boolean prevIsUpperBound = isUpperBoundComparator(prevBoundComparator);
+                if (prevIsUpperBound ? !isLowerBoundComparator(comparator) : !isUpperBoundComparator(comparator)) {
+                    alternationViolationIndex = i;
+                    alternationViolatedByUpperBound = prevIsUpperBound;
+                }
             }
+            prevBoundComparator = comparator;
         }
 
-        // ... the sequence of constraint comparators must be an alternation of greater and lesser comparators:
-        //   * "<" and "<=" must be followed by one of ">", ">=" (or no constraint).
-        //   * ">" and ">=" must be followed by one of "<", "<=" (or no constraint).
-        tmpConstraints.removeIf(constraint -> constraint.comparator() == Comparator.EQUAL);
-        if (tmpConstraints.size() < 2) {
-            // No, or only one constraint remaining; Nothing to validate anymore.
-            return this;
+        if (equalityViolationIndex >= 0) {
+            final Comparator nextComparator =
+                    constraints.get(equalityViolationIndex).comparator();
+            return new Violation(
+                    ErrorCode.INVALID_COMPARATOR_SEQUENCE, equalityViolationIndex, () -> new VersException("""
+                            Invalid range %s: A = comparator must only be \
+                            followed by a > or >= operator, but got: %s\
+                            """.formatted(this, nextComparator.operator())));
         }
-
-        for (int i = 0; i + 1 < tmpConstraints.size(); i++) {
-            final Comparator currComparator = tmpConstraints.get(i).comparator();
-            final Comparator nextComparator = tmpConstraints.get(i + 1).comparator();
-
-            if (isUpperBoundComparator(currComparator) && !isLowerBoundComparator(nextComparator)) {
-                throw new VersException("""
-                        Invalid range %s: A < or <= comparator must only be \
-                        followed by a > or >= comparator, but got: %s""".formatted(this, nextComparator.operator()));
-            }
-            if (isLowerBoundComparator(currComparator) && !isUpperBoundComparator(nextComparator)) {
-                throw new VersException("""
-                        Invalid range %s: A > or >= comparator must only be \
-                        followed by a < or <= comparator, but got: %s""".formatted(this, nextComparator.operator()));
+        if (alternationViolationIndex >= 0) {
+            final Comparator nextComparator =
+                    constraints.get(alternationViolationIndex).comparator();
+            if (alternationViolatedByUpperBound) {
+                return new Violation(
+                        ErrorCode.INVALID_COMPARATOR_SEQUENCE, alternationViolationIndex, () -> new VersException("""
+                                Invalid range %s: A < or <= comparator must only be \
+                                followed by a > or >= comparator, but got: %s\
+                                """.formatted(this, nextComparator.operator())));
             }
+            return new Violation(
+                    ErrorCode.INVALID_COMPARATOR_SEQUENCE, alternationViolationIndex, () -> new VersException("""
+                            Invalid range %s: A > or >= comparator must only be \
+                            followed by a < or <= comparator, but got: %s\
+                            """.formatted(this, nextComparator.operator())));
         }
 
-        return this;
+        validated = true;
+        return null;
     }
 
     /**
@@ -574,11 +911,11 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @throws VersException if the compared verses have different schemes
      */
     public boolean overlapsWith(Vers vers) {
+        ensureOrderVerified();
+        vers.ensureOrderVerified();
+
         // Ensure both Vers use the same scheme
-        if (!this.constraints()
-                .getFirst()
-                .scheme()
-                .equals(vers.constraints().getFirst().scheme())) {
+        if (!this.scheme.equals(vers.scheme)) {
             throw new VersException("Vers ranges with different schemes cannot be checked for an overlap");
         }
         // if one of the vers is empty, there can't be an overlap
@@ -591,68 +928,47 @@ public record Vers(String scheme, List<Constraint> constraints) {
             return true;
         }
 
-        // check if any version denoted as equal, greaterOrEqual or smallerOrEqual constraint is part of the other range
-        if (isPartOf(this, vers) || isPartOf(vers, this)) {
-            return true;
-        }
-
-        // we checked all the equality parts, we can remove all equal parts and do upper / lower bounds
-        // check on the rest
-        var const1 = this.constraints().stream()
-                .filter(c -> !c.comparator().equals(Comparator.EQUAL)
-                        && !c.comparator().equals(Comparator.NOT_EQUAL))
-                .toList();
-        var const2 = vers.constraints().stream()
-                .filter(c -> !c.comparator().equals(Comparator.EQUAL)
-                        && !c.comparator().equals(Comparator.NOT_EQUAL))
-                .toList();
-
-        // if one of the vers doesn't contain ranges anymore, we are done
-        if (const1.isEmpty() || const2.isEmpty()) {
-            return false;
-        }
-
-        // This ensures we have pairs of < then > then < then > and so on
-        //   without cases of < or <= being followed by < or <=
-        // From this point on we do not care about the `orEqual` anymore,as it was checked before already
-        var vers1 = new Vers(this.scheme(), const1).simplify();
-        var vers2 = new Vers(vers.scheme(), const2).simplify();
+        // Both decompositions are sorted, so a single sweep over them suffices.
+        return Intervals.overlap(this.intervals(), vers.intervals());
+    }
 
-        // unbounded constraints are < at the beginning or > at the end of a vers
-        // this may be mergeable with the bounds checks happening later
-        if (overlapsWithUnboundedConstraint(vers1, vers2) || overlapsWithUnboundedConstraint(vers2, vers1)) {
-            return true;
+    /**
+     * Decomposes this range into sorted, disjoint intervals covering exactly the versions in this range.
+     * <p>
+     * Unlike {@link #split()}, {@code !=} constraints retain their exclusionary effect,
+     * e.g. {@code vers:generic/>=1.0.0|!=1.5.0|<2.0.0} decomposes into {@code [1.0.0,1.5.0)}
+     * and {@code (1.5.0,2.0.0)}. Touching intervals are merged, such that two ranges covering
+     * the same versions have equal decompositions.
+     * <p>
+     * Ranges that have not been validated, e.g. because they were parsed leniently, may contain
+     * redundant bounds that prevent a decomposition. Such ranges are simplified first.
+     * <p>
+     * The decomposition is computed once and cached.
+     *
+     * @return An immutable {@link List} of intervals, sorted in ascending order
+     * @throws VersException When the range can not be decomposed even after simplification
+     * @since 0.24.0
+     */
+    public List<Interval> intervals() {
+        List<Interval> intervals = this.intervals;
+        if (intervals != null) {
+            return intervals;
         }
 
-        // we can drop all unbounded constraints, they have no relevance for an overlap anymore
-        const1 = removeUnboundedConstraints(vers1);
-        const2 = removeUnboundedConstraints(vers2);
+        ensureOrderVerified();
 
-        if (const1.isEmpty() || const2.isEmpty()) {
-            return false;
+        // Benign race: decomposition is idempotent, so concurrent callers may both perform it.
+        List<Interval> decomposed = Intervals.of(constraints);
+        if (decomposed == null) {
+            decomposed = Intervals.of(simplify().constraints);
         }
-        vers1 = new Vers(vers1.scheme(), const1);
-        vers2 = new Vers(vers2.scheme(), const2);
-
-        // at this point both vers contains pairs of boundaries starting with > < > < > <
-        // it should always be an even number of boundaries. we can split those up into ranges
-        if (vers1.constraints().size() % 2 != 0 || vers2.constraints().size() % 2 != 0) {
-            throw new RuntimeException("Unexpected behavior detected! Please file a bug");
+        if (decomposed == null) {
+            throw new VersException("Constraints are in an invalid order");
         }
 
-        for (var i = 0; i < vers1.constraints().size(); i = i + 2) {
-            for (var j = 0; j < vers2.constraints().size(); j = j + 2) {
-
-                if (boundsOverlap(
-                        requireNonNull(vers1.constraints().get(i).version()),
-                        requireNonNull(vers1.constraints().get(i + 1).version()),
-                        requireNonNull(vers2.constraints().get(j).version()),
-                        requireNonNull(vers2.constraints().get(j + 1).version()))) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        intervals = List.copyOf(decomposed);
+        this.intervals = intervals;
+        return intervals;
     }
 
     /**
@@ -661,6 +977,8 @@ public record Vers(String scheme, List<Constraint> constraints) {
      * @throws VersException if the vers is a wildcard
      */
     public Vers invert() {
+        ensureOrderVerified();
+
         if (isWildcard()) {
             throw new VersException("Can not invert wildcard vers");
         }
@@ -671,79 +989,223 @@ public record Vers(String scheme, List<Constraint> constraints) {
         return new Vers(this.scheme(), inverted).simplify();
     }
 
-    @Override
-    public String toString() {
-        final String schemeStr = scheme().toLowerCase();
-        final String constraintsStr =
-                constraints.stream().map(Constraint::toString).collect(Collectors.joining("|"));
-        return "vers:%s/%s".formatted(schemeStr, constraintsStr);
+    /**
+     * Computes the union of this and another range, i.e. a range containing all versions
+     * contained in either of them.
+     * <p>
+     * When neither range contains any version, e.g. {@code vers:generic/!=1.0.0|!=2.0.0},
+     * this range is returned as-is.
+     *
+     * @param other The range to unite with
+     * @return A simplified and validated range
+     * @throws VersException When the ranges have different schemes
+     * @throws VersException When the resulting range covers all versions but two or more single ones,
+     *                       which can not be expressed in {@code vers}
+     * @since 0.24.0
+     */
+    public Vers union(Vers other) {
+        final List<Interval> union = Intervals.union(intervalsFor(other), other.intervals());
+        return fromIntervals(union).orElse(this);
     }
 
-    private static boolean isLowerBoundConstraint(@Nullable Constraint constraint) {
-        return constraint != null && isLowerBoundComparator(constraint.comparator());
+    /**
+     * Computes the intersection of this and another range, i.e. a range containing all versions
+     * contained in both of them.
+     *
+     * @param other The range to intersect with
+     * @return A simplified and validated range, or {@link Optional#empty()} when the ranges have no version in common
+     * @throws VersException When the ranges have different schemes
+     * @throws VersException When the resulting range covers all versions but two or more single ones,
+     *                       which can not be expressed in {@code vers}
+     * @since 0.24.0
+     */
+    public Optional<Vers> intersect(Vers other) {
+        return fromIntervals(Intervals.intersection(intervalsFor(other), other.intervals()));
     }
 
-    private static boolean isUpperBoundConstraint(@Nullable Constraint constraint) {
-        return constraint != null && isUpperBoundComparator(constraint.comparator());
+    /**
+     * Computes the difference of this and another range, i.e. a range containing all versions
+     * contained in this range, but not in {@code other}.
+     *
+     * @param other The range to subtract
+     * @return A simplified and validated range, or {@link Optional#empty()} when {@code other} covers this range
+     * @throws VersException When the ranges have different schemes
+     * @throws VersException When the resulting range covers all versions but two or more single ones,
+     *                       which can not be expressed in {@code vers}
+     * @since 0.24.0
+     */
+    public Optional<Vers> minus(Vers other) {
+        return fromIntervals(Intervals.difference(intervalsFor(other), other.intervals()));
     }
 
-    private static boolean isLowerBoundComparator(Comparator comparator) {
-        return comparator == Comparator.GREATER_THAN || comparator == Comparator.GREATER_THAN_OR_EQUAL;
+    /**
+     * Compiles this range into a predicate that is specialized for its bounds.
+     * <p>
+     * Compilation is worthwhile for ranges that are evaluated very frequently.
+     * The compiled predicate contains exactly the same versions as this range.
+     *
+     * @return The compiled predicate
+     * @throws VersException When this range is invalid
+     * @see CompiledVers
+     * @since 0.24.0
+     */
+    public CompiledVers compile() {
+        return VersCompiler.compile(validate());
     }
 
-    private static boolean isUpperBoundComparator(Comparator comparator) {
-        return comparator == Comparator.LESS_THAN || comparator == Comparator.LESS_THAN_OR_EQUAL;
+    /**
+     * Computes the complement of this range, i.e. a range containing exactly the versions
+     * this range does not contain.
+     * <p>
+     * Unlike {@link #invert()}, this is supported for wildcard ranges, and for ranges
+     * containing multiple {@code =} constraints.
+     *
+     * @return A simplified and validated range, or {@link Optional#empty()} when this range is a wildcard
+     * @throws VersException When the complement covers all versions but two or more single ones,
+     *                       which can not be expressed in {@code vers}
+     * @since 0.24.0
+     */
+    public Optional<Vers> complement() {
+        ensureOrderVerified();
+
+        return fromIntervals(Intervals.complement(intervals()));
     }
 
-    private static boolean isPartOf(Vers vers1, Vers vers2) {
-        // get all equal constraints
-        var equalityConstraints = vers1.constraints().stream()
-                .filter(c -> c.comparator().equals(Comparator.EQUAL)
-                        || c.comparator().equals(Comparator.GREATER_THAN_OR_EQUAL)
-                        || c.comparator().equals(Comparator.LESS_THAN_OR_EQUAL))
-                .toList();
+    /**
+     * Checks whether all versions contained in this range are also contained in another range.
+     * <p>
+     * A range that contains no version at all, e.g. {@code vers:generic/!=1.0.0|!=2.0.0},
+     * is a subset of every range.
+     *
+     * @param other The range to check against
+     * @return {@code true} when this range is a subset of {@code other}
+     * @throws VersException When the ranges have different schemes
+     * @since 0.24.0
+     */
+    public boolean isSubsetOf(Vers other) {
+        return Intervals.isSubset(intervalsFor(other), other.intervals());
+    }
 
-        for (var constraint : equalityConstraints) {
-            if (vers2.contains(requireNonNull(constraint.version()).toString())) {
-                return true;
-            }
+    /**
+     * Checks whether this range contains exactly the same versions as another range,
+     * e.g. {@code vers:maven/>=1.0|<2.0} and {@code vers:maven/>=1.0.0|>=1.1.0|<2.0.0}.
+     * <p>
+     * Unlike {@link #equals(Object)}, this does not require the ranges to consist of equal constraints.
+     *
+     * @param other The range to check against
+     * @return {@code true} when this range and {@code other} contain the same versions
+     * @throws VersException When the ranges have different schemes
+     * @since 0.24.0
+     */
+    public boolean isEquivalentTo(Vers other) {
+        // Decompositions are canonical, so equivalent ranges have equal decompositions.
+        return intervalsFor(other).equals(other.intervals());
+    }
+
+    private List<Interval> intervalsFor(Vers other) {
+        ensureOrderVerified();
+        other.ensureOrderVerified();
+
+        if (!this.scheme.equals(other.scheme)) {
+            throw new VersException("Vers ranges with different schemes cannot be combined");
         }
-        return false;
+
+        return intervals();
     }
 
-    private static boolean overlapsWithUnboundedConstraint(Vers vers1, Vers vers2) {
-        // if first constraint is < or last constraint is > than this is an unbound constraint
-        var first = vers1.constraints().getFirst();
-        if (isUpperBoundConstraint(first)) {
-            // this is an upper bound without limit such as "vers:generic/<1.2.3" should overlap with
-            // "vers:generic/<1.2.1|>1.3.0"
-            // if the version is larger than any of the versions of vers2, than we have an overlap
-            for (var constraint2 : vers2.constraints()) {
-                if (requireNonNull(first.version()).compareTo(requireNonNull(constraint2.version())) > 0) {
-                    return true;
-                }
-            }
+    private Optional<Vers> fromIntervals(List<Interval> intervals) {
+        return ofIntervals(scheme, intervals);
+    }
+
+    /**
+     * Creates a simplified and validated range covering exactly the versions of {@code intervals}.
+     *
+     * @param scheme    The versioning scheme of the range
+     * @param intervals Sorted and disjoint intervals, as produced by {@link #intervals()}
+     * @return The range, or {@link Optional#empty()} when {@code intervals} is empty
+     * @throws VersException When {@code intervals} cover all versions but two or more single ones
+     */
+    static Optional<Vers> ofIntervals(String scheme, List<Interval> intervals) {
+        if (intervals.isEmpty()) {
+            return Optional.empty();
         }
 
-        var last = vers1.constraints().getLast();
-        if (isLowerBoundConstraint(last)) {
-            // this is a lower bound without limit such as "vers:generic/>1.2.3",
-            // "vers:generic/>1.2.9|<1.3.0", "vers:generic/<1.3.0"
-            // if the version is smaller than any of the versions of vers2, than we have an overlap
-            for (var constraint2 : vers2.constraints()) {
-                if (requireNonNull(last.version()).compareTo(requireNonNull(constraint2.version())) < 0) {
-                    return true;
+        final var vers = new Vers(scheme, Intervals.toConstraints(scheme, intervals));
+        vers.intervals = List.copyOf(intervals);
+        return Optional.of(vers);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final Vers other)) {
+            return false;
+        }
+
+        return hashCode() == other.hashCode()
+                && scheme.equals(other.scheme)
+                && constraints.equals(other.constraints);
+    }
+
+    /**
+     * The hash is computed from the constraints' canonical versions once, and cached.
+     * Ranges that differ only in the spelling of their versions, e.g. {@code vers:maven/<1.0}
+     * and {@code vers:maven/<1.0.0}, are {@link #equals(Object) equal} and hash identically.
+     */
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            // Benign race: the hash is deterministic, so concurrent callers compute the same value.
+            hash = Objects.hash(scheme, constraints);
+            this.hash = hash;
+        }
+
+        return hash;
+    }
+
+    /**
+     * @return The canonical {@code vers} string of this range, which is computed once and cached
+     */
+    @Override
+    public String toString() {
+        String string = this.string;
+        if (string == null) {
+            // Benign race: the string is deterministic, and Strings are safely published.
+            final var builder = new StringBuilder(8 + scheme.length() + 8 * constraints.size())
+                    .append("vers:")
+                    .append(scheme.toLowerCase(Locale.ROOT))
+                    .append('/');
+            for (int i = 0; i < constraints.size(); i++) {
+                if (i > 0) {
+                    builder.append('|');
                 }
+                builder.append(constraints.get(i));
             }
+
+            string = builder.toString();
+            this.string = string;
         }
 
-        return false;
+        return string;
     }
 
-    private static boolean boundsOverlap(Version lower1, Version upper1, Version lower2, Version upper2) {
+    private static boolean isLowerBoundConstraint(@Nullable Constraint constraint) {
+        return constraint != null && isLowerBoundComparator(constraint.comparator());
+    }
+
+    private static boolean isUpperBoundConstraint(@Nullable Constraint constraint) {
+        return constraint != null && isUpperBoundComparator(constraint.comparator());
+    }
 
-        // Check if the ranges overlap
-        return lower1.compareTo(upper2) < 0 && lower2.compareTo(upper1) < 0;
+    private static boolean isLowerBoundComparator(Comparator comparator) {
+        return comparator == Comparator.GREATER_THAN || comparator == Comparator.GREATER_THAN_OR_EQUAL;
+    }
+
+    private static boolean isUpperBoundComparator(Comparator comparator) {
+        return comparator == Comparator.LESS_THAN || comparator == Comparator.LESS_THAN_OR_EQUAL;
     }
 
     public static List<Constraint> removeUnboundedConstraints(Vers vers) {
@@ -754,47 +1216,47 @@ public record Vers(String scheme, List<Constraint> constraints) {
             return constraints;
         }
 
-        var first = constraints.getFirst();
-        if (isUpperBoundConstraint(first)) {
-            constraints = constraints.stream().filter(c -> !c.equals(first)).toList();
+        if (isUpperBoundConstraint(constraints.getFirst())) {
+            constraints = constraints.subList(1, constraints.size());
         }
 
         if (constraints.isEmpty()) {
             return constraints;
         }
 
-        var last = constraints.getLast();
-        if (isLowerBoundConstraint(last)) {
-            constraints = constraints.stream().filter(c -> !c.equals(last)).toList();
+        if (isLowerBoundConstraint(constraints.getLast())) {
+            constraints = constraints.subList(0, constraints.size() - 1);
         }
         return constraints;
     }
 
-    private static boolean containsWhitespace(String value) {
+    private static int indexOfWhitespace(String value) {
         for (int i = 0; i < value.length(); i++) {
             if (Character.isWhitespace(value.charAt(i))) {
-                return true;
+                return i;
             }
         }
 
-        return false;
+        return -1;
     }
 
     public static class Builder {
 
         private final String scheme;
+        private final VersionFactory versionFactory;
         private final List<Constraint> constraints = new ArrayList<>();
 
-        private Builder(String scheme) {
+        private Builder(String scheme, VersionFactory versionFactory) {
             this.scheme = scheme;
+            this.versionFactory = versionFactory;
         }
 
         public Constraint createConstraint(Comparator comparator, String version) {
-            return new Constraint(scheme, comparator, VersionFactory.forScheme(scheme, version));
+            return new Constraint(scheme, comparator, versionFactory.parse(scheme, version));
         }
 
         public Constraint parseConstraint(String constraintStr) {
-            return Constraint.parse(scheme, constraintStr, /* strict */ false);
+            return Constraint.parse(scheme, constraintStr, /* strict */ false, versionFactory);
         }
 
         public Builder withConstraint(Constraint constraint) {
@@ -806,7 +1268,7 @@ public record Vers(String scheme, List<Constraint> constraints) {
             if (versionStr == null) {
                 constraints.add(new Constraint(scheme, comparator, null));
             } else {
-                constraints.add(new Constraint(scheme, comparator, VersionFactory.forScheme(scheme, versionStr)));
+                constraints.add(new Constraint(scheme, comparator, versionFactory.parse(scheme, versionStr)));
             }
 
             return this;
@@ -822,25 +1284,42 @@ public record Vers(String scheme, List<Constraint> constraints) {
         }
 
         public Vers build() {
+            return tryBuild().orElseThrow();
+        }
+
+        /**
+         * Behaves like {@link #build()}, but reports an invalid range as a failed {@link ParseResult}
+         * instead of throwing an exception.
+         *
+         * @since 0.24.0
+         */
+        public ParseResult<Vers> tryBuild() {
             requireNonNull(scheme, "scheme must not be null");
             if (constraints.isEmpty()) {
-                throw new VersException("constraints must not be empty");
+                return ParseResult.failure(
+                        ErrorCode.MISSING_CONSTRAINTS, -1, () -> new VersException("constraints must not be empty"));
             }
             if (constraints.stream().map(Constraint::scheme).anyMatch(not(scheme::equals))) {
-                throw new VersException("constraints must have identical versioning schemes (%s)".formatted(scheme));
+                return ParseResult.failure(
+                        ErrorCode.MIXED_VERSIONING_SCHEMES,
+                        -1,
+                        () -> new VersException(
+                                "constraints must have identical versioning schemes (%s)".formatted(scheme)));
             }
 
             constraints.sort(Constraint::compareTo);
 
-            return new Vers(scheme, constraints).validate();
+            final var vers = new Vers(scheme, constraints);
+            final Violation violation = vers.findViolation();
+            if (violation != null) {
+                return ParseResult.failure(violation.errorCode(), -1, violation.exceptionSupplier());
+            }
+
+            return ParseResult.success(vers);
         }
 
         public Optional<Vers> maybeBuild() {
-            try {
-                return Optional.of(build());
-            } catch (VersException e) {
-                return Optional.empty();
-            }
+            return tryBuild().value();
         }
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of parsed {@link Vers} ranges, keyed by the exact input string.
+ * <p>
+ * Sharing parsed ranges is safe, because {@link Vers} is immutable. Eviction follows a segmented LRU policy,
+ * such that ranges parsed only once do not displace frequently parsed ones. Failures to parse are not cached.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 0.24.0
+ */
+public final class VersCache {
+
+    private record Key(String versString, boolean lenient) {}
+
+    private final SegmentedLruCache<Key, Vers> cache;
+    private final VersionFactory versionFactory;
+
+    private VersCache(int maximumSize, VersionFactory versionFactory) {
+        this.cache = new SegmentedLruCache<>(maximumSize);
+        this.versionFactory = versionFactory;
+    }
+
+    /**
+     * @param maximumSize Maximum number of ranges to cache
+     * @throws IllegalArgumentException When {@code maximumSize} is not positive
+     */
+    public static VersCache create(int maximumSize) {
+        return create(maximumSize, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * @param maximumSize    Maximum number of ranges to cache
+     * @param versionFactory The {@link VersionFactory} to create versions with
+     * @throws IllegalArgumentException When {@code maximumSize} is not positive
+     */
+    public static VersCache create(int maximumSize, VersionFactory versionFactory) {
+        requireNonNull(versionFactory, "versionFactory must not be null");
+        return new VersCache(maximumSize, versionFactory);
+    }
+
+    /**
+     * @see Vers#parse(String, VersionFactory)
+     */
+    public Vers parse(String versString) {
+        return get(new Key(versString, false), key -> Vers.parse(key.versString(), versionFactory));
+    }
+
+    /**
+     * @see Vers#parseLenient(String, VersionFactory)
+     */
+    public Vers parseLenient(String versString) {
+        return get(new Key(versString, true), key -> Vers.parseLenient(key.versString(), versionFactory));
+    }
+
+    /**
+     * @return A snapshot of this cache's statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return The number of ranges currently cached
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Discards all cached ranges. Statistics are retained.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private Vers get(Key key, Function<Key, Vers> parser) {
+        requireNonNull(key.versString(), "versString must not be null");
+
+        return cache.get(key, parser);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Compiles {@link Vers} ranges into {@link CompiledVers} predicates, using {@link MethodHandle} combinators.
+ * <p>
+ * The intervals of a range are unrolled into a chain of guards, in ascending order. A version below the lower
+ * endpoint of an interval cannot be in any later interval, and a version at or below its upper endpoint is
+ * in the range, so every guard either decides the result, or defers to the guard of the next interval.
+ * <p>
+ * Since the chain is as deep as the range has intervals, only ranges of up to {@value #MAX_UNROLLED_INTERVALS}
+ * intervals are unrolled. Beyond that, a linear chain would scan more intervals than a binary search, and
+ * invoking it would eventually overflow the stack, so larger ranges are matched using a binary search instead.
+ */
+final class VersCompiler {
+
+    /**
+     * {@link MethodHandle} holders are records, because the JIT trusts the final fields of records
+     * to be constant, which allows it to fold the predicate into callers holding a constant instance.
+     */
+    private record MethodHandleCompiledVers(Vers vers, MethodHandle predicate) implements CompiledVers {
+
+        @Override
+        public boolean test(Version version) {
+            try {
+                return (boolean) predicate.invokeExact(version);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return vers.toString();
+        }
+    }
+
+    static final int MAX_UNROLLED_INTERVALS = 16;
+
+    private static final MethodHandle CONTAINS;
+    private static final MethodHandle IS_GREATER;
+    private static final MethodHandle IS_GREATER_OR_EQUAL;
+    private static final MethodHandle TRUE = constant(true);
+    private static final MethodHandle FALSE = constant(false);
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final var comparisonType = methodType(boolean.class, Version.class, Version.class);
+        try {
+            CONTAINS = lookup.findStatic(
+                    Intervals.class, "contains", methodType(boolean.class, List.class, Version.class));
+            IS_GREATER = lookup.findStatic(VersCompiler.class, "isGreater", comparisonType);
+            IS_GREATER_OR_EQUAL = lookup.findStatic(VersCompiler.class, "isGreaterOrEqual", comparisonType);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private VersCompiler() {}
+
+    static CompiledVers compile(Vers vers) {
+        final List<Interval> intervals = vers.intervals();
+        if (intervals.size() > MAX_UNROLLED_INTERVALS) {
+            return new MethodHandleCompiledVers(vers, MethodHandles.insertArguments(CONTAINS, 0, intervals));
+        }
+
+        MethodHandle predicate = FALSE;
+        for (int i = intervals.size() - 1; i >= 0; i--) {
+            final Interval interval = intervals.get(i);
+
+            final Version upper = interval.upper();
+            if (upper != null) {
+                final MethodHandle isWithinUpper = interval.upperInclusive()
+                        ? MethodHandles.insertArguments(IS_GREATER_OR_EQUAL, 0, upper)
+                        : MethodHandles.insertArguments(IS_GREATER, 0, upper);
+                predicate = MethodHandles.guardWithTest(isWithinUpper, TRUE, predicate);
+            } else {
+                predicate = TRUE;
+            }
+
+            final Version lower = interval.lower();
+            if (lower != null) {
+                final MethodHandle isBelowLower = interval.lowerInclusive()
+                        ? MethodHandles.insertArguments(IS_GREATER, 0, lower)
+                        : MethodHandles.insertArguments(IS_GREATER_OR_EQUAL, 0, lower);
+                predicate = MethodHandles.guardWithTest(isBelowLower, FALSE, predicate);
+            }
+        }
+
+        return new MethodHandleCompiledVers(vers, predicate);
+    }
+
+    private static boolean isGreater(Version bound, Version version) {
+        return bound.compareTo(version) > 0;
+    }
+
+    private static boolean isGreaterOrEqual(Version bound, Version version) {
+        return bound.compareTo(version) >= 0;
+    }
+
+    private static MethodHandle constant(boolean value) {
+        return MethodHandles.dropArguments(MethodHandles.constant(boolean.class, value), 0, Version.class);
+    }
+}
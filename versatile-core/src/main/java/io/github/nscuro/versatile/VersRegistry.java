@@ -0,0 +1,133 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A registry that hash-conses {@link Vers} ranges.
+ * <p>
+ * Ranges are canonicalized by decomposing them into their {@link Vers#intervals() intervals},
+ * such that semantically identical ranges, e.g. {@code vers:maven/>=1.0|<2.0} and
+ * {@code vers:maven/>=1.0.0|>=1.1.0|<2.0.0}, share a single canonical instance and id.
+ * <p>
+ * Ids are assigned sequentially starting at {@code 0}, in order of registration, and never change.
+ * They are thus suitable for memoizing per-range results, e.g. in arrays indexed by id.
+ * <p>
+ * Registered ranges are retained for the lifetime of the registry. Instances are thread-safe.
+ *
+ * @since 0.24.0
+ */
+public final class VersRegistry {
+
+    private record Key(String scheme, List<Interval> intervals) {}
+
+    private record Entry(int id, Vers vers) {}
+
+    private final Map<Key, Entry> entryByKey = new HashMap<>();
+    private final List<Vers> versById = new ArrayList<>();
+
+    /**
+     * Registers a range, unless a semantically identical range is already registered.
+     *
+     * @param vers The range to register
+     * @return The id of the canonical range
+     * @throws VersException When {@code vers} is invalid
+     */
+    public int register(Vers vers) {
+        return entryFor(vers).id();
+    }
+
+    /**
+     * Registers a range, unless a semantically identical range is already registered.
+     * <p>
+     * The canonical range is simplified and validated. Ranges that contain no version at all,
+     * e.g. {@code vers:generic/!=1.0.0|!=2.0.0}, and ranges that contain all versions but multiple
+     * single ones, e.g. {@code vers:generic/<1.0.0|>1.0.0|!=2.0.0}, have no canonical {@code vers}
+     * representation; the first one registered is shared instead.
+     *
+     * @param vers The range to canonicalize
+     * @return The canonical range, which is shared with all semantically identical ranges
+     * @throws VersException When {@code vers} is invalid
+     */
+    public Vers canonicalize(Vers vers) {
+        return entryFor(vers).vers();
+    }
+
+    /**
+     * @param id The id of a registered range, as returned by {@link #register(Vers)}
+     * @return The canonical range with the given id
+     * @throws NoSuchElementException When no range with the given id is registered
+     */
+    public Vers get(int id) {
+        synchronized (entryByKey) {
+            if (id < 0 || id >= versById.size()) {
+                throw new NoSuchElementException("No range registered with id " + id);
+            }
+
+            return versById.get(id);
+        }
+    }
+
+    /**
+     * @return The number of distinct ranges registered
+     */
+    public int size() {
+        synchronized (entryByKey) {
+            return versById.size();
+        }
+    }
+
+    private Entry entryFor(Vers vers) {
+        requireNonNull(vers, "vers must not be null");
+
+        // Decompose outside the lock; the decomposition is cached by the range itself.
+        final List<Interval> intervals = vers.intervals();
+        final var key = new Key(vers.scheme(), intervals);
+
+        synchronized (entryByKey) {
+            final @Nullable Entry existing = entryByKey.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            final Vers canonical = canonicalOf(vers, intervals);
+            final var entry = new Entry(versById.size(), canonical);
+            entryByKey.put(key, entry);
+            versById.add(canonical);
+            return entry;
+        }
+    }
+
+    private static Vers canonicalOf(Vers vers, List<Interval> intervals) {
+        if (Intervals.excludesOnlyMultipleVersions(intervals)) {
+            // No valid vers range covers all versions but multiple single ones.
+            return vers;
+        }
+
+        return Vers.ofIntervals(vers.scheme(), intervals).orElseGet(vers::simplify);
+    }
+}
@@ -238,6 +238,28 @@ public final class VersUtils {
         };
     }
 
+    /**
+     * Extract the release from an OSV ecosystem of a Linux distribution, e.g. {@code 22.04:LTS}
+     * for {@code Ubuntu:22.04:LTS}, or {@code v3.18} for {@code Alpine:v3.18}.
+     *
+     * @param ecosystem The OSV ecosystem
+     * @return The release, or {@link Optional#empty()} when {@code ecosystem} is not a Linux distribution,
+     * or does not have a release suffix
+     * @since 0.24.0
+     */
+    public static Optional<String> releaseFromOsvEcosystem(String ecosystem) {
+        final int separatorIndex = ecosystem.indexOf(':');
+        if (separatorIndex < 0 || separatorIndex == ecosystem.length() - 1) {
+            return Optional.empty();
+        }
+
+        return switch (ecosystem.substring(0, separatorIndex)) {
+            case "AlmaLinux", "Alpine", "Debian", "Mageia", "Photon OS", "Rocky Linux", "Ubuntu" ->
+                Optional.of(ecosystem.substring(separatorIndex + 1));
+            default -> Optional.empty();
+        };
+    }
+
     public static Optional<String> schemeFromOsvEcosystem(String ecosystem) {
         // https://github.com/ossf/osv-schema/blob/main/docs/schema.md#affectedpackage-field
 
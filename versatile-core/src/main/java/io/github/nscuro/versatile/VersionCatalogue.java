@@ -0,0 +1,375 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A catalogue of all known versions of a package, sorted in ascending order.
+ * <p>
+ * Each distinct version is assigned a dense ordinal, i.e. its index in the catalogue. {@link Vers} ranges can be
+ * {@link #compile(Vers) compiled} against a catalogue, such that matching catalogued versions only requires
+ * integer comparisons, and the versions affected by a range can be enumerated as contiguous slices.
+ * <p>
+ * Instances are immutable and thus thread-safe.
+ *
+ * @since 0.24.0
+ */
+public final class VersionCatalogue {
+
+    private final String scheme;
+    private final Version[] versions;
+    private final List<Version> versionList;
+
+    private VersionCatalogue(String scheme, Version[] versions) {
+        this.scheme = scheme;
+        this.versions = versions;
+        // A view rather than a copy, as the array is never modified after construction.
+        this.versionList = Collections.unmodifiableList(Arrays.asList(versions));
+    }
+
+    /**
+     * @see #of(String, Collection, VersionFactory)
+     */
+    public static VersionCatalogue of(String scheme, Collection<String> versionStrs) {
+        return of(scheme, versionStrs, VersionFactory.defaultFactory());
+    }
+
+    /**
+     * Creates a catalogue from version strings.
+     * <p>
+     * Versions considered equal by their scheme, e.g. {@code 1.0} and {@code 1.0.0}
+     * of the {@code maven} scheme, are catalogued only once.
+     *
+     * @param scheme         The versioning scheme of the versions
+     * @param versionStrs    The versions to catalogue, in any order
+     * @param versionFactory The {@link VersionFactory} to create versions with
+     * @return The catalogue
+     * @throws io.github.nscuro.versatile.spi.InvalidVersionException When any of the versions is invalid
+     */
+    public static VersionCatalogue of(String scheme, Collection<String> versionStrs, VersionFactory versionFactory) {
+        requireNonNull(scheme, "scheme must not be null");
+        requireNonNull(versionStrs, "versionStrs must not be null");
+        requireNonNull(versionFactory, "versionFactory must not be null");
+
+        final var versions = new Version[versionStrs.size()];
+        int i = 0;
+        for (final String versionStr : versionStrs) {
+            versions[i++] = versionFactory.parse(scheme, versionStr);
+        }
+
+        return create(scheme, versions);
+    }
+
+    /**
+     * Creates a catalogue from already created versions.
+     *
+     * @param scheme   The versioning scheme of the versions
+     * @param versions The versions to catalogue, in any order
+     * @return The catalogue
+     * @throws IllegalArgumentException When any of the versions is not of the given scheme
+     * @see #of(String, Collection, VersionFactory)
+     */
+    public static VersionCatalogue ofVersions(String scheme, Collection<? extends Version> versions) {
+        requireNonNull(scheme, "scheme must not be null");
+        requireNonNull(versions, "versions must not be null");
+
+        final Version[] versionArray = versions.toArray(new Version[0]);
+        for (final Version version : versionArray) {
+            if (!scheme.equals(version.scheme())) {
+                throw new IllegalArgumentException("Versions must all be of scheme %s, but got %s of scheme %s"
+                        .formatted(scheme, version, version.scheme()));
+            }
+        }
+
+        return create(scheme, versionArray);
+    }
+
+    private static VersionCatalogue create(String scheme, Version[] versions) {
+        Arrays.sort(versions);
+
+        // Drop versions that are equal to their predecessor, retaining the first spelling.
+        int distinctCount = 0;
+        for (final Version version : versions) {
+            if (distinctCount == 0 || versions[distinctCount - 1].compareTo(version) != 0) {
+                versions[distinctCount++] = version;
+            }
+        }
+
+        return new VersionCatalogue(scheme, Arrays.copyOf(versions, distinctCount));
+    }
+
+    public String scheme() {
+        return scheme;
+    }
+
+    /**
+     * @return The number of distinct versions in this catalogue
+     */
+    public int size() {
+        return versions.length;
+    }
+
+    /**
+     * @param ordinal The ordinal of a version
+     * @return The version with the given ordinal
+     * @throws IndexOutOfBoundsException When {@code ordinal} is not within {@code [0, size())}
+     */
+    public Version get(int ordinal) {
+        return versions[ordinal];
+    }
+
+    /**
+     * @return An immutable {@link List} of all versions, sorted in ascending order and indexed by ordinal
+     */
+    public List<Version> versions() {
+        return versionList;
+    }
+
+    /**
+     * @param version The version to look up
+     * @return The ordinal of {@code version}, or {@code -1} when it is not catalogued
+     */
+    public int ordinalOf(Version version) {
+        final int index = Arrays.binarySearch(versions, version);
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * @param version The version to look up, which need not be catalogued
+     * @return The lowest ordinal of a version greater than {@code version}, or {@link #size()} if there is none
+     */
+    public int firstOrdinalAbove(Version version) {
+        int low = 0, high = versions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (versions[mid].compareTo(version) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @param bitmap Ordinals of this catalogue, e.g. as obtained from {@link CompiledRange#toBitmap()}
+     * @return An immutable {@link List} of the versions with the given ordinals, sorted in ascending order
+     * @throws IndexOutOfBoundsException When {@code bitmap} contains ordinals not within {@code [0, size())}
+     */
+    public List<Version> versionsOf(OrdinalBitmap bitmap) {
+        return bitmap.stream().mapToObj(this::get).toList();
+    }
+
+    /**
+     * Compiles a range into ordinal intervals of this catalogue.
+     *
+     * @param vers The range to compile
+     * @return The compiled range
+     * @throws VersException When {@code vers} is of a different scheme than this catalogue,
+     *                       or when it is invalid
+     */
+    public CompiledRange compile(Vers vers) {
+        requireNonNull(vers, "vers must not be null");
+        if (!scheme.equals(vers.scheme())) {
+            throw new VersException("Vers range of scheme %s cannot be compiled against a catalogue of scheme %s"
+                    .formatted(vers.scheme(), scheme));
+        }
+
+        final List<Interval> intervals = vers.intervals();
+        final var bounds = new int[intervals.size() * 2];
+        int boundCount = 0;
+        for (final Interval interval : intervals) {
+            final int start = firstOrdinalNotBelow(interval);
+            final int end = firstOrdinalAbove(interval, start);
+            if (start >= end) {
+                continue;
+            }
+
+            // Intervals separated only by versions that are not catalogued are contiguous in ordinal space.
+            if (boundCount > 0 && bounds[boundCount - 1] == start) {
+                bounds[boundCount - 1] = end;
+            } else {
+                bounds[boundCount++] = start;
+                bounds[boundCount++] = end;
+            }
+        }
+
+        return new CompiledRange(this, intervals, Arrays.copyOf(bounds, boundCount));
+    }
+
+    /**
+     * @return The lowest ordinal of a version that {@code interval} does not lie above
+     */
+    private int firstOrdinalNotBelow(Interval interval) {
+        int low = 0, high = versions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (interval.isAbove(versions[mid])) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return The lowest ordinal, starting at {@code fromOrdinal}, of a version that {@code interval} lies below
+     */
+    private int firstOrdinalAbove(Interval interval, int fromOrdinal) {
+        int low = fromOrdinal, high = versions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (interval.isBelow(versions[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * A {@link Vers} range compiled against a {@link VersionCatalogue}.
+     * <p>
+     * The range is represented as sorted, disjoint, half-open intervals of ordinals.
+     *
+     * @since 0.24.0
+     */
+    public static final class CompiledRange {
+
+        private final VersionCatalogue catalogue;
+        private final List<Interval> intervals;
+        private final int[] bounds;
+
+        private CompiledRange(VersionCatalogue catalogue, List<Interval> intervals, int[] bounds) {
+            this.catalogue = catalogue;
+            this.intervals = intervals;
+            this.bounds = bounds;
+        }
+
+        /**
+         * @param ordinal The ordinal of a catalogued version
+         * @return {@code true} when the version with the given ordinal is in range
+         */
+        public boolean contains(int ordinal) {
+            int low = 0, high = bounds.length / 2 - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (ordinal < bounds[2 * mid]) {
+                    high = mid - 1;
+                } else if (ordinal >= bounds[2 * mid + 1]) {
+                    low = mid + 1;
+                } else {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Checks whether a version is in range.
+         * <p>
+         * Catalogued versions are checked by their ordinal. Other versions are checked
+         * against the range itself, such that the result is always accurate.
+         *
+         * @param version The version to check
+         * @return {@code true} when {@code version} is in range
+         */
+        public boolean contains(Version version) {
+            final int ordinal = catalogue.ordinalOf(version);
+            return ordinal >= 0 ? contains(ordinal) : Intervals.contains(intervals, version);
+        }
+
+        /**
+         * @return The catalogued versions in range as an {@link OrdinalBitmap}, which can be combined
+         * with the bitmaps of other ranges compiled against the same catalogue
+         */
+        public OrdinalBitmap toBitmap() {
+            return OrdinalBitmap.ofRuns(bounds);
+        }
+
+        /**
+         * @return The number of disjoint ordinal intervals
+         */
+        public int intervalCount() {
+            return bounds.length / 2;
+        }
+
+        /**
+         * @param index The index of an ordinal interval, within {@code [0, intervalCount())}
+         * @return The first ordinal of the interval
+         */
+        public int startOrdinal(int index) {
+            return bounds[2 * index];
+        }
+
+        /**
+         * @param index The index of an ordinal interval, within {@code [0, intervalCount())}
+         * @return The ordinal after the last ordinal of the interval
+         */
+        public int endOrdinal(int index) {
+            return bounds[2 * index + 1];
+        }
+
+        /**
+         * @return The number of catalogued versions in range
+         */
+        public int size() {
+            int size = 0;
+            for (int i = 0; i < bounds.length; i += 2) {
+                size += bounds[i + 1] - bounds[i];
+            }
+
+            return size;
+        }
+
+        /**
+         * @return An immutable {@link List} of all catalogued versions in range, sorted in ascending order.
+         * A range with a single ordinal interval yields a contiguous slice of {@link VersionCatalogue#versions()}
+         * without copying.
+         */
+        public List<Version> versions() {
+            if (bounds.length == 2) {
+                return catalogue.versionList.subList(bounds[0], bounds[1]);
+            }
+
+            final var versions = new Version[size()];
+            int offset = 0;
+            for (int i = 0; i < bounds.length; i += 2) {
+                final int length = bounds[i + 1] - bounds[i];
+                System.arraycopy(catalogue.versions, bounds[i], versions, offset, length);
+                offset += length;
+            }
+
+            return List.of(versions);
+        }
+    }
+}
@@ -18,47 +18,439 @@
  */
 package io.github.nscuro.versatile;
 
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_APK;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_CARGO;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_COMPOSER;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_CPAN;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_DEBIAN;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GEM;
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GENERIC;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GENTOO;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GOLANG;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_MAVEN;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NPM;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NUGET;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_PYPI;
+import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_RPM;
+import static java.util.Objects.requireNonNull;
 
 import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
 import io.github.nscuro.versatile.spi.VersionProvider;
-import java.util.Comparator;
+import io.github.nscuro.versatile.version.ApkVersion;
+import io.github.nscuro.versatile.version.CargoVersion;
+import io.github.nscuro.versatile.version.ComposerVersion;
+import io.github.nscuro.versatile.version.DebianVersion;
+import io.github.nscuro.versatile.version.GemVersion;
+import io.github.nscuro.versatile.version.GenericVersion;
+import io.github.nscuro.versatile.version.GoVersion;
+import io.github.nscuro.versatile.version.MavenVersion;
+import io.github.nscuro.versatile.version.NpmVersion;
+import io.github.nscuro.versatile.version.NugetVersion;
+import io.github.nscuro.versatile.version.PythonVersion;
+import io.github.nscuro.versatile.version.RpmVersion;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 
 /**
+ * Creates {@link Version}s using the {@link VersionProvider} best suited for a given versioning scheme.
+ * <p>
+ * The static {@link #forScheme(String, String)} method uses a shared default factory,
+ * which considers built-in providers as well as providers discovered via {@link ServiceLoader}.
+ * Independently configured factories, for example with a fixed set of providers or with
+ * a bounded cache of interned versions, can be created using {@link #builder()}.
+ *
  * @since 0.8.0
  */
 public class VersionFactory {
 
-    private static final Map<String, VersionProvider> PROVIDER_BY_SCHEME = new ConcurrentHashMap<>();
+    /**
+     * Providers shipped with versatile.
+     * <p>
+     * They are instantiated directly rather than through {@link ServiceLoader},
+     * which would otherwise load and reflectively construct every one of them
+     * for each scheme that is looked up for the first time.
+     */
+    private static final List<VersionProvider> BUILTIN_PROVIDERS = List.of(
+            new ApkVersion.Provider(),
+            new CargoVersion.Provider(),
+            new ComposerVersion.Provider(),
+            new DebianVersion.Provider(),
+            new GemVersion.Provider(),
+            new GenericVersion.Provider(),
+            new GoVersion.Provider(),
+            new MavenVersion.Provider(),
+            new NpmVersion.Provider(),
+            new NugetVersion.Provider(),
+            new PythonVersion.Provider(),
+            new RpmVersion.Provider());
+    private static final Set<Class<?>> BUILTIN_PROVIDER_TYPES =
+            BUILTIN_PROVIDERS.stream().map(Object::getClass).collect(Collectors.toUnmodifiableSet());
+    private static final List<String> KNOWN_SCHEMES = List.of(
+            SCHEME_APK,
+            SCHEME_CARGO,
+            SCHEME_COMPOSER,
+            SCHEME_CPAN,
+            SCHEME_DEBIAN,
+            SCHEME_GEM,
+            SCHEME_GENERIC,
+            SCHEME_GENTOO,
+            SCHEME_GOLANG,
+            SCHEME_MAVEN,
+            SCHEME_NPM,
+            SCHEME_NUGET,
+            SCHEME_PYPI,
+            SCHEME_RPM);
+
+    private static volatile @Nullable List<VersionProvider> discoveredProviders;
+
+    private static final VersionFactory DEFAULT = new VersionFactory(null, Map.of(), null);
+
+    private final @Nullable List<VersionProvider> providers;
+    private final Map<String, String> schemeAliases;
+    private final Map<String, VersionProvider> providerByScheme = new ConcurrentHashMap<>();
+    private final @Nullable SegmentedLruCache<VersionKey, Version> versionCache;
+
+    private VersionFactory(
+            final @Nullable List<VersionProvider> providers,
+            final Map<String, String> schemeAliases,
+            final @Nullable SegmentedLruCache<VersionKey, Version> versionCache) {
+        this.providers = providers;
+        this.schemeAliases = schemeAliases;
+        this.versionCache = versionCache;
+    }
+
+    /**
+     * @return The shared default {@link VersionFactory}
+     * @since 0.24.0
+     */
+    public static VersionFactory defaultFactory() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return A new {@link Builder} for a {@link VersionFactory}
+     * @since 0.24.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
 
-    private VersionFactory() {}
+    /**
+     * @return The {@link VersionProvider}s shipped with versatile
+     * @since 0.24.0
+     */
+    public static List<VersionProvider> builtinProviders() {
+        return BUILTIN_PROVIDERS;
+    }
 
+    /**
+     * Creates a {@link Version} using the {@linkplain #defaultFactory() default factory}.
+     *
+     * @see #parse(String, String)
+     */
     public static Version forScheme(String scheme, String versionStr) {
-        VersionProvider provider = PROVIDER_BY_SCHEME.computeIfAbsent(scheme, VersionFactory::findProviderForScheme);
-        if (provider != null) {
-            return provider.getVersion(scheme, versionStr);
+        return DEFAULT.parse(scheme, versionStr);
+    }
+
+    /**
+     * Attempts to create a {@link Version} using the {@linkplain #defaultFactory() default factory}.
+     *
+     * @see #tryParse(String, String)
+     * @since 0.24.0
+     */
+    public static VersionParseResult tryForScheme(String scheme, String versionStr) {
+        return DEFAULT.tryParse(scheme, versionStr);
+    }
+
+    /**
+     * Creates a {@link Version} for a given versioning scheme.
+     * <p>
+     * When no provider supports {@code scheme}, the provider of the {@code generic} scheme is used instead.
+     *
+     * @param scheme     The versioning scheme, or an alias of it
+     * @param versionStr The version string to parse
+     * @return The parsed {@link Version}
+     * @throws io.github.nscuro.versatile.spi.InvalidVersionException When {@code versionStr} is invalid
+     * @throws NoSuchElementException When neither {@code scheme} nor the {@code generic} scheme are supported
+     * @since 0.24.0
+     */
+    public Version parse(String scheme, String versionStr) {
+        final String canonicalScheme = canonicalScheme(scheme);
+        if (versionCache == null) {
+            return getProvider(canonicalScheme).getVersion(canonicalScheme, versionStr);
         }
 
-        if (!SCHEME_GENERIC.equals(scheme)) {
-            provider = PROVIDER_BY_SCHEME.computeIfAbsent(SCHEME_GENERIC, VersionFactory::findProviderForScheme);
+        return versionCache.get(
+                new VersionKey(canonicalScheme, versionStr),
+                key -> getProvider(key.scheme()).getVersion(key.scheme(), key.versionStr()));
+    }
+
+    /**
+     * Attempts to create a {@link Version} for a given versioning scheme.
+     * <p>
+     * Unlike {@link #parse(String, String)}, invalid version strings are reported as failed result,
+     * rather than by throwing an exception. Prefer this method when invalid input is expected to be common.
+     *
+     * @param scheme     The versioning scheme, or an alias of it
+     * @param versionStr The version string to parse
+     * @return A {@link VersionParseResult} holding either the {@link Version}, or the reason why it is invalid
+     * @throws NoSuchElementException When neither {@code scheme} nor the {@code generic} scheme are supported
+     * @see VersionProvider#tryGetVersion(String, String)
+     * @since 0.24.0
+     */
+    public VersionParseResult tryParse(String scheme, String versionStr) {
+        final String canonicalScheme = canonicalScheme(scheme);
+        if (versionCache == null) {
+            return getProvider(canonicalScheme).tryGetVersion(canonicalScheme, versionStr);
+        }
+
+        final var key = new VersionKey(canonicalScheme, versionStr);
+        final Version cachedVersion = versionCache.getIfPresent(key);
+        if (cachedVersion != null) {
+            return VersionParseResult.success(cachedVersion);
+        }
+
+        final VersionParseResult result = getProvider(canonicalScheme).tryGetVersion(canonicalScheme, versionStr);
+        final Version version = result.version().orElse(null);
+        if (version == null) {
+            return result;
+        }
+
+        final Version internedVersion = versionCache.putIfAbsent(key, version);
+        return internedVersion == version ? result : VersionParseResult.success(internedVersion);
+    }
+
+    /**
+     * Resolves a scheme alias.
+     *
+     * @param scheme The versioning scheme, or an alias of it
+     * @return The scheme that {@code scheme} is an alias of, or {@code scheme} itself
+     * @since 0.24.0
+     */
+    public String canonicalScheme(String scheme) {
+        requireNonNull(scheme, "scheme must not be null");
+        return schemeAliases.getOrDefault(scheme, scheme);
+    }
+
+    /**
+     * Resolves the providers of all known versioning schemes and scheme aliases,
+     * such that subsequent calls to {@link #parse(String, String)} do not incur the cost of doing so.
+     * <p>
+     * Schemes without a provider are skipped. Parsing versions of those schemes fails as it would without warm-up.
+     *
+     * @return This {@link VersionFactory}
+     * @since 0.24.0
+     */
+    public VersionFactory warmUp() {
+        final var schemes = new LinkedHashSet<>(KNOWN_SCHEMES);
+        schemes.addAll(schemeAliases.values());
+        for (final String scheme : schemes) {
+            final VersionProvider provider = lookupProvider(scheme);
             if (provider != null) {
-                return provider.getVersion(scheme, versionStr);
+                providerByScheme.putIfAbsent(scheme, provider);
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * @return The number of versions currently held by the interning cache
+     * @since 0.24.0
+     */
+    public int cacheSize() {
+        return versionCache != null ? versionCache.size() : 0;
+    }
+
+    /**
+     * Discards all versions held by the interning cache, if any.
+     *
+     * @since 0.24.0
+     */
+    public void clearCache() {
+        if (versionCache != null) {
+            versionCache.clear();
+        }
+    }
+
+    private VersionProvider getProvider(String scheme) {
+        return providerByScheme.computeIfAbsent(scheme, this::resolveProvider);
+    }
+
+    private VersionProvider resolveProvider(String scheme) {
+        final VersionProvider provider = lookupProvider(scheme);
+        if (provider == null) {
+            throw new NoSuchElementException("No provider found for scheme: %s".formatted(scheme));
+        }
+
+        return provider;
+    }
+
+    private @Nullable VersionProvider lookupProvider(String scheme) {
+        final VersionProvider provider = findProviderForScheme(scheme);
+        if (provider == null && !SCHEME_GENERIC.equals(scheme)) {
+            return findProviderForScheme(SCHEME_GENERIC);
+        }
+
+        return provider;
+    }
+
+    private @Nullable VersionProvider findProviderForScheme(String scheme) {
+        VersionProvider selected = null;
+        for (final VersionProvider provider : providers != null ? providers : discoveredProviders()) {
+            if (provider.supportsScheme(scheme) && (selected == null || provider.priority() > selected.priority())) {
+                selected = provider;
+            }
+        }
+
+        return selected;
+    }
+
+    private static List<VersionProvider> discoveredProviders() {
+        List<VersionProvider> result = discoveredProviders;
+        if (result == null) {
+            synchronized (VersionFactory.class) {
+                result = discoveredProviders;
+                if (result == null) {
+                    result = discoverProviders();
+                    discoveredProviders = result;
+                }
             }
         }
 
-        throw new NoSuchElementException("No provider found for scheme: %s".formatted(scheme));
+        return result;
     }
 
-    private static @Nullable VersionProvider findProviderForScheme(String scheme) {
-        return ServiceLoader.load(VersionProvider.class).stream()
+    /**
+     * Combines the built-in providers with those registered by other modules or JARs.
+     * <p>
+     * The service registry is scanned only once, and built-in providers are skipped
+     * based on their type, such that only third-party providers are instantiated.
+     */
+    private static List<VersionProvider> discoverProviders() {
+        final var result = new ArrayList<>(BUILTIN_PROVIDERS);
+        ServiceLoader.load(VersionProvider.class).stream()
+                .filter(provider -> !BUILTIN_PROVIDER_TYPES.contains(provider.type()))
                 .map(ServiceLoader.Provider::get)
-                .filter(provider -> provider.supportsScheme(scheme))
-                .max(Comparator.comparingInt(VersionProvider::priority))
-                .orElse(null);
+                .forEach(result::add);
+
+        return List.copyOf(result);
+    }
+
+    private record VersionKey(String scheme, String versionStr) {}
+
+    /**
+     * @since 0.24.0
+     */
+    public static class Builder {
+
+        private final List<VersionProvider> providers = new ArrayList<>();
+        private final Map<String, String> schemeAliases = new HashMap<>();
+        private int versionCacheSize;
+        private boolean eagerWarmUp;
+
+        private Builder() {}
+
+        /**
+         * Restricts the factory to the given provider, in addition to any others added before.
+         * <p>
+         * Once at least one provider has been added, {@link ServiceLoader} discovery is disabled.
+         * Use {@link #withProviders(Collection)} with {@link VersionFactory#builtinProviders()}
+         * to retain the built-in providers.
+         */
+        public Builder withProvider(VersionProvider provider) {
+            providers.add(requireNonNull(provider, "provider must not be null"));
+            return this;
+        }
+
+        /**
+         * @see #withProvider(VersionProvider)
+         */
+        public Builder withProviders(Collection<? extends VersionProvider> providers) {
+            requireNonNull(providers, "providers must not be null").forEach(this::withProvider);
+            return this;
+        }
+
+        /**
+         * Treats {@code alias} as another name for {@code scheme}.
+         * <p>
+         * Versions created for {@code alias} will report {@code scheme} as their scheme.
+         */
+        public Builder withSchemeAlias(String alias, String scheme) {
+            requireNonNull(alias, "alias must not be null");
+            requireNonNull(scheme, "scheme must not be null");
+            if (alias.equals(scheme)) {
+                throw new IllegalArgumentException("alias must differ from scheme, but both are: " + scheme);
+            }
+
+            schemeAliases.put(alias, scheme);
+            return this;
+        }
+
+        /**
+         * Interns created versions in a cache holding up to {@code maximumSize} entries.
+         * When full, versions created only once are evicted before versions created repeatedly,
+         * in least recently used order.
+         * <p>
+         * Parsing the same version string repeatedly will then yield the same {@link Version} instance.
+         * A {@code maximumSize} of {@code 0} disables the cache, which is the default.
+         */
+        public Builder withVersionCache(int maximumSize) {
+            if (maximumSize < 0) {
+                throw new IllegalArgumentException("maximumSize must not be negative, but is " + maximumSize);
+            }
+
+            this.versionCacheSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Resolves providers for all known schemes when the factory is built,
+         * rather than on first use of each scheme. Schemes without a provider are skipped.
+         *
+         * @see VersionFactory#warmUp()
+         */
+        public Builder withEagerWarmUp() {
+            this.eagerWarmUp = true;
+            return this;
+        }
+
+        public VersionFactory build() {
+            // Resolve chained aliases upfront, so each lookup requires at most one map access.
+            final var resolvedAliases = new HashMap<String, String>(schemeAliases.size());
+            for (final String alias : schemeAliases.keySet()) {
+                String scheme = schemeAliases.get(alias);
+                final var visited = new LinkedHashSet<String>();
+                visited.add(alias);
+                while (schemeAliases.containsKey(scheme)) {
+                    if (!visited.add(scheme)) {
+                        throw new IllegalStateException("Scheme aliases form a cycle: " + visited);
+                    }
+                    scheme = schemeAliases.get(scheme);
+                }
+                resolvedAliases.put(alias, scheme);
+            }
+
+            final var factory = new VersionFactory(
+                    providers.isEmpty() ? null : List.copyOf(providers),
+                    Map.copyOf(resolvedAliases),
+                    versionCacheSize > 0 ? new SegmentedLruCache<>(versionCacheSize) : null);
+            if (eagerWarmUp) {
+                factory.warmUp();
+            }
+
+            return factory;
+        }
     }
 }
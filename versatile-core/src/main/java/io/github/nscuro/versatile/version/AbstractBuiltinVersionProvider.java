@@ -18,7 +18,9 @@
  */
 package io.github.nscuro.versatile.version;
 
+import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
 import io.github.nscuro.versatile.spi.VersionProvider;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -58,6 +60,23 @@ abstract class AbstractBuiltinVersionProvider implements VersionProvider {
      */
     @Override
     public Version getVersion(final String scheme, final String versionStr) {
-        return constructor.apply(scheme, versionStr);
+        try {
+            return constructor.apply(scheme, versionStr);
+        } catch (StacklessInvalidVersionException e) {
+            // Callers of this method expect exceptions to carry a stack trace.
+            throw new InvalidVersionException(e.version(), e.reason(), e.getCause());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public VersionParseResult tryGetVersion(final String scheme, final String versionStr) {
+        try {
+            return VersionParseResult.success(constructor.apply(scheme, versionStr));
+        } catch (InvalidVersionException e) {
+            return VersionParseResult.failure(versionStr, e.reason());
+        }
     }
 }
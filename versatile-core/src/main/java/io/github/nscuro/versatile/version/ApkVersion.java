@@ -19,8 +19,8 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_APK;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.ArrayList;
 import java.util.List;
@@ -99,7 +99,7 @@ public class ApkVersion extends Version {
 
         this.tokens = parseVersion(versionStr);
         if (this.tokens.isEmpty()) {
-            throw new InvalidVersionException(versionStr, "Failed to parse Alpine version: " + versionStr);
+            throw new StacklessInvalidVersionException(versionStr, "Failed to parse Alpine version: " + versionStr);
         }
     }
 
@@ -124,6 +124,23 @@ public class ApkVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Revisions are compared numerically, so {@code -r01} and {@code -r1} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        int hash = scheme.hashCode();
+        for (final Token token : tokens) {
+            final int valueHash =
+                    token.type() == Token.Type.REVISION ? hashNumeric(token.value()) : token.value().hashCode();
+            hash = 31 * (31 * hash + token.type().ordinal()) + valueHash;
+        }
+
+        return hash;
+    }
+
     private static List<Token> parseVersion(final String versionStr) {
         final var tokens = new ArrayList<Token>();
         final Matcher matcher = TOKEN_PATTERN.matcher(versionStr);
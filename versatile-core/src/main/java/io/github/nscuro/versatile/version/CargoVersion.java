@@ -23,10 +23,11 @@ import static io.github.nscuro.versatile.version.VersionUtils.isAsciiAlphaNumeri
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiDigit;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -80,7 +81,7 @@ public class CargoVersion extends Version {
             parseIdentifiers(versionStr, cursor, false);
         }
         if (cursor[0] != versionStr.length()) {
-            throw new InvalidVersionException(
+            throw new StacklessInvalidVersionException(
                     versionStr, "Unexpected character at position %d: %s".formatted(cursor[0], versionStr));
         }
 
@@ -121,6 +122,14 @@ public class CargoVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheme, major, minor, patch, Arrays.hashCode(prerelease));
+    }
+
     private static long parseNumericField(String versionStr, int[] cursor) {
         final int start = cursor[0];
         int i = start;
@@ -128,19 +137,20 @@ public class CargoVersion extends Version {
             i++;
         }
         if (i == start) {
-            throw new InvalidVersionException(versionStr, "Expected a number at position " + start);
+            throw new StacklessInvalidVersionException(versionStr, "Expected a number at position " + start);
         }
 
         final String number = versionStr.substring(start, i);
         if (number.length() > 1 && number.charAt(0) == '0') {
-            throw new InvalidVersionException(versionStr, "Leading zero in numeric component: " + number);
+            throw new StacklessInvalidVersionException(versionStr, "Leading zero in numeric component: " + number);
         }
 
         cursor[0] = i;
         try {
             return Long.parseUnsignedLong(number);
         } catch (NumberFormatException e) {
-            throw new InvalidVersionException(versionStr, "Numeric component exceeds 64-bit range: " + number, e);
+            throw new StacklessInvalidVersionException(
+                    versionStr, "Numeric component exceeds 64-bit range: " + number, e);
         }
     }
 
@@ -154,14 +164,14 @@ public class CargoVersion extends Version {
                 i++;
             }
             if (i == start) {
-                throw new InvalidVersionException(versionStr, "Empty identifier at position " + start);
+                throw new StacklessInvalidVersionException(versionStr, "Empty identifier at position " + start);
             }
 
             final String identifier = versionStr.substring(start, i);
             cursor[0] = i;
 
             if (prerelease && isAsciiNumeric(identifier) && identifier.length() > 1 && identifier.charAt(0) == '0') {
-                throw new InvalidVersionException(
+                throw new StacklessInvalidVersionException(
                         versionStr, "Leading zero in numeric pre-release identifier: " + identifier);
             }
 
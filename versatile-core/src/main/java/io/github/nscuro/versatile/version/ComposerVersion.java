@@ -19,8 +19,8 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_COMPOSER;
+import static io.github.nscuro.versatile.version.VersionUtils.hashIgnoreCase;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.Locale;
 import java.util.Set;
@@ -95,7 +95,7 @@ public class ComposerVersion extends Version {
 
         String version = versionStr.trim();
         if (version.isEmpty()) {
-            throw new InvalidVersionException(versionStr, "Version must not be empty");
+            throw new StacklessInvalidVersionException(versionStr, "Version must not be empty");
         }
 
         final Matcher aliasMatcher = ALIAS_PATTERN.matcher(version);
@@ -124,7 +124,7 @@ public class ComposerVersion extends Version {
         if (lower.startsWith("dev-")) {
             final String name = version.substring(4);
             if (name.isEmpty()) {
-                throw new InvalidVersionException(versionStr, "Branch name must not be empty");
+                throw new StacklessInvalidVersionException(versionStr, "Branch name must not be empty");
             }
             this.branchName = name;
             this.originalComponents = new String[0];
@@ -171,7 +171,7 @@ public class ComposerVersion extends Version {
         if (!matcher.matches()) {
             matcher = DATE_PATTERN.matcher(version);
             if (!matcher.matches()) {
-                throw new InvalidVersionException(versionStr, "Invalid Composer version format");
+                throw new StacklessInvalidVersionException(versionStr, "Invalid Composer version format");
             }
             isDate = true;
         }
@@ -312,6 +312,38 @@ public class ComposerVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Trailing zero components are ignored, such that {@code 1.0} and {@code 1.0.0.0} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        if (branchName != null) {
+            return 31 * scheme.hashCode() + hashIgnoreCase(branchName);
+        }
+
+        int numericEnd = numericComponents.length;
+        while (numericEnd > 0 && numericComponents[numericEnd - 1] == 0) {
+            numericEnd--;
+        }
+        int stabilityEnd = stabilityNumbers.length;
+        while (stabilityEnd > 0 && stabilityNumbers[stabilityEnd - 1] == 0) {
+            stabilityEnd--;
+        }
+
+        int hash = scheme.hashCode();
+        for (int i = 0; i < numericEnd; i++) {
+            hash = 31 * hash + Long.hashCode(numericComponents[i]);
+        }
+        hash = 31 * hash + stability.ordinal();
+        for (int i = 0; i < stabilityEnd; i++) {
+            hash = 31 * hash + stabilityNumbers[i];
+        }
+
+        return 31 * hash + Boolean.hashCode(isDev);
+    }
+
     @Override
     public String toString() {
         return normalizedString;
@@ -19,9 +19,10 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_DEBIAN;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
+import static io.github.nscuro.versatile.version.VersionUtils.isAsciiZero;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.ArrayList;
 import java.util.Optional;
@@ -61,7 +62,7 @@ public class DebianVersion extends Version {
 
         final Matcher versionMatcher = VERSION_PATTERN.matcher(versionStr);
         if (!versionMatcher.find()) {
-            throw new InvalidVersionException(versionStr, """
+            throw new StacklessInvalidVersionException(versionStr, """
                     Provided version "%s" does not match the Debian version format \
                     [epoch:]upstream-version[-debian-revision]\
                     """.formatted(versionStr));
@@ -75,7 +76,7 @@ public class DebianVersion extends Version {
                 Optional.ofNullable(versionMatcher.group("debianRevision")).orElse("0");
 
         if (this.upstreamVersion == null) {
-            throw new InvalidVersionException(versionStr, """
+            throw new StacklessInvalidVersionException(versionStr, """
                     Provided version "%s" does not contain the mandatory upstream version, \
                     according to the Debian version format [epoch:]upstream-version[-debian-revision]\
                     """.formatted(versionStr));
@@ -118,6 +119,18 @@ public class DebianVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numeric segments are compared by value and missing segments are treated as {@code 0},
+     * such that {@code 1.01-0} and {@code 1.1} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * scheme.hashCode() + epoch) + hashVersionPart(upstreamVersionSegments))
+                + hashVersionPart(debianRevisionSegments);
+    }
+
     public int epoch() {
         return epoch;
     }
@@ -140,6 +153,20 @@ public class DebianVersion extends Version {
         return segments.toArray(new String[0]);
     }
 
+    private static int hashVersionPart(String[] segments) {
+        int end = segments.length;
+        while (end > 0 && isAsciiZero(segments[end - 1])) {
+            end--;
+        }
+
+        int hash = 1;
+        for (int i = 0; i < end; i++) {
+            hash = 31 * hash + (isAsciiNumeric(segments[i]) ? hashNumeric(segments[i]) : segments[i].hashCode());
+        }
+
+        return hash;
+    }
+
     private static int compareVersionPart(String[] segmentsA, String[] segmentsB) {
         final int max = Math.max(segmentsA.length, segmentsB.length);
 
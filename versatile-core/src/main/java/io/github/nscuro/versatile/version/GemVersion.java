@@ -21,7 +21,6 @@ package io.github.nscuro.versatile.version;
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GEM;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiDigit;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -64,7 +63,7 @@ public class GemVersion extends Version {
         super(SCHEME_GEM, versionStr);
 
         if (!ANCHORED_VERSION_PATTERN.matcher(versionStr).matches()) {
-            throw new InvalidVersionException(versionStr, "Malformed gem version: " + versionStr);
+            throw new StacklessInvalidVersionException(versionStr, "Malformed gem version: " + versionStr);
         }
 
         // Gem::Version#initialize
@@ -94,6 +93,21 @@ public class GemVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Trailing zero segments are ignored, such that {@code 1.0} and {@code 1.0.0} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        int end = canonicalSegments.size();
+        while (end > 0 && canonicalSegments.get(end - 1) instanceof final BigInteger number && number.signum() == 0) {
+            end--;
+        }
+
+        return 31 * scheme.hashCode() + canonicalSegments.subList(0, end).hashCode();
+    }
+
     // Gem::Version#canonical_segments.
     private static List<Object> canonicalSegments(String normalized, boolean prerelease) {
         String canonical = TRAILING_ZEROS_PATTERN.matcher(normalized).replaceFirst("");
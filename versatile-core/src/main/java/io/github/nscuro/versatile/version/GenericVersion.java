@@ -19,9 +19,13 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_GENERIC;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
+import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
+import static io.github.nscuro.versatile.version.VersionUtils.isAsciiZero;
 
 import io.github.nscuro.versatile.spi.Version;
 import io.github.nscuro.versatile.version.ext.ComponentVersion;
+import java.util.List;
 import java.util.Set;
 
 public class GenericVersion extends Version {
@@ -64,4 +68,27 @@ public class GenericVersion extends Version {
         throw new IllegalArgumentException("%s can only be compared with its own type, but got %s"
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Trailing zero parts are ignored, such that {@code 1.0} and {@code 1.0.0} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        final List<String> parts = delegate.getVersionParts();
+
+        int end = parts.size();
+        while (end > 0 && isAsciiZero(parts.get(end - 1))) {
+            end--;
+        }
+
+        int hash = scheme.hashCode();
+        for (int i = 0; i < end; i++) {
+            final String part = parts.get(i);
+            hash = 31 * hash + (isAsciiNumeric(part) ? hashNumeric(part) : part.hashCode());
+        }
+
+        return hash;
+    }
 }
@@ -23,7 +23,6 @@ import static io.github.nscuro.versatile.version.VersionUtils.isAsciiAlphaNumeri
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiDigit;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.Map;
 import java.util.Objects;
@@ -68,7 +67,7 @@ public class GoVersion extends Version {
 
         Map.Entry<String, String> partAndRest = parseInt(versionStr.substring(versionStart));
         if (partAndRest == null) {
-            throw new InvalidVersionException(versionStr, "Invalid major version");
+            throw new StacklessInvalidVersionException(versionStr, "Invalid major version");
         }
 
         this.major = partAndRest.getKey();
@@ -82,12 +81,12 @@ public class GoVersion extends Version {
         }
 
         if (partAndRest.getValue().charAt(0) != '.') {
-            throw new InvalidVersionException(versionStr, "Major version must be followed by \".\"");
+            throw new StacklessInvalidVersionException(versionStr, "Major version must be followed by \".\"");
         }
 
         partAndRest = parseInt(partAndRest.getValue().substring(1));
         if (partAndRest == null) {
-            throw new InvalidVersionException(versionStr, "Invalid minor version");
+            throw new StacklessInvalidVersionException(versionStr, "Invalid minor version");
         }
 
         this.minor = partAndRest.getKey();
@@ -99,16 +98,20 @@ public class GoVersion extends Version {
             return;
         }
 
+        if (partAndRest.getValue().charAt(0) != '.') {
+            throw new StacklessInvalidVersionException(versionStr, "Minor version must be followed by \".\"");
+        }
+
         partAndRest = parseInt(partAndRest.getValue().substring(1));
         if (partAndRest == null) {
-            throw new InvalidVersionException(versionStr, "Invalid patch version");
+            throw new StacklessInvalidVersionException(versionStr, "Invalid patch version");
         }
 
         this.patch = partAndRest.getKey();
         if (!partAndRest.getValue().isEmpty() && partAndRest.getValue().charAt(0) == '-') {
             partAndRest = parsePrerelease(partAndRest.getValue());
             if (partAndRest == null) {
-                throw new InvalidVersionException(versionStr, "Invalid pre-release version");
+                throw new StacklessInvalidVersionException(versionStr, "Invalid pre-release version");
             }
 
             this.prerelease = partAndRest.getKey();
@@ -119,7 +122,7 @@ public class GoVersion extends Version {
         if (!partAndRest.getValue().isEmpty() && partAndRest.getValue().charAt(0) == '+') {
             partAndRest = parseBuild(partAndRest.getValue());
             if (partAndRest == null) {
-                throw new InvalidVersionException(versionStr, "Invalid build version");
+                throw new StacklessInvalidVersionException(versionStr, "Invalid build version");
             }
 
             this.build = partAndRest.getKey();
@@ -128,7 +131,7 @@ public class GoVersion extends Version {
         }
 
         if (!partAndRest.getValue().isEmpty()) {
-            throw new InvalidVersionException(
+            throw new StacklessInvalidVersionException(
                     versionStr, "Unexpected remainder after parsing: \"%s\"".formatted(partAndRest.getValue()));
         }
 
@@ -172,6 +175,16 @@ public class GoVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Build metadata does not participate in comparison, and is thus not considered.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheme, major, minor, patch, prerelease);
+    }
+
     public String major() {
         return major;
     }
@@ -194,7 +207,7 @@ public class GoVersion extends Version {
 
     // https://github.com/golang/mod/blob/baa5c2d058db25484c20d76985ba394e73176132/semver/semver.go#L227-L242
     private static Map.@Nullable Entry<String, String> parseInt(String version) {
-        if (!isAsciiDigit(version.charAt(0))) {
+        if (version.isEmpty() || !isAsciiDigit(version.charAt(0))) {
             return null;
         }
 
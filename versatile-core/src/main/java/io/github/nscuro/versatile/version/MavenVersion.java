@@ -74,6 +74,14 @@ public class MavenVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
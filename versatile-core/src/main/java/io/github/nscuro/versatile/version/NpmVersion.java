@@ -19,11 +19,15 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NPM;
+import static io.github.nscuro.versatile.version.VersionUtils.hashIgnoreCase;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
+import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 
 import com.vdurmont.semver4j.Semver;
 import com.vdurmont.semver4j.SemverException;
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
+import java.math.BigInteger;
+import java.util.Objects;
 import java.util.Set;
 
 public class NpmVersion extends Version {
@@ -38,6 +42,8 @@ public class NpmVersion extends Version {
         }
     }
 
+    private static final String[] NO_SUFFIX_TOKENS = new String[0];
+
     private final Semver delegate;
 
     NpmVersion(String versionStr) {
@@ -45,7 +51,7 @@ public class NpmVersion extends Version {
         try {
             this.delegate = new Semver(versionStr, Semver.SemverType.NPM);
         } catch (SemverException e) {
-            throw new InvalidVersionException(versionStr, "Invalid according to SemVer", e);
+            throw new StacklessInvalidVersionException(versionStr, "Invalid according to SemVer", e);
         }
     }
 
@@ -59,14 +65,118 @@ public class NpmVersion extends Version {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Versions are compared by their major, minor, and patch components, where missing components
+     * count as {@code 0}, and by their pre-release identifiers as per SemVer precedence rules.
+     * Numeric identifiers are compared numerically, alphanumeric identifiers case-insensitively.
+     * Build metadata is ignored.
      */
     @Override
     public int compareTo(final Version other) {
         if (other instanceof final NpmVersion otherVersion) {
-            return this.delegate.compareTo(otherVersion.delegate);
+            // Semver's own comparison is not symmetric for versions with missing components,
+            // and compares majors by reference. Compare the normalized components instead,
+            // such that equals and hashCode can be derived from the very same components.
+            int result = Integer.compare(major(this.delegate), major(otherVersion.delegate));
+            if (result != 0) {
+                return result;
+            }
+
+            result = Integer.compare(minor(this.delegate), minor(otherVersion.delegate));
+            if (result != 0) {
+                return result;
+            }
+
+            result = Integer.compare(patch(this.delegate), patch(otherVersion.delegate));
+            if (result != 0) {
+                return result;
+            }
+
+            return compareSuffixTokens(suffixTokens(this.delegate), suffixTokens(otherVersion.delegate));
         }
 
         throw new IllegalArgumentException("%s can only be compared with its own type, but got %s"
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Two versions are equal when they {@link #compareTo(Version) compare} as equal.
+     *
+     * @since 0.24.0
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof final NpmVersion otherVersion)) {
+            return false;
+        }
+
+        return compareTo(otherVersion) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.24.0
+     */
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(scheme, major(delegate), minor(delegate), patch(delegate));
+        for (final String token : suffixTokens(delegate)) {
+            hash = 31 * hash + (isAsciiNumeric(token) ? hashNumeric(token) : hashIgnoreCase(token));
+        }
+
+        return hash;
+    }
+
+    private static int compareSuffixTokens(final String[] tokens, final String[] otherTokens) {
+        // Versions without pre-release identifiers have a higher precedence than those with.
+        if (tokens.length == 0 || otherTokens.length == 0) {
+            return Integer.compare(otherTokens.length, tokens.length);
+        }
+
+        for (int i = 0; i < Math.min(tokens.length, otherTokens.length); i++) {
+            final boolean isNumeric = isAsciiNumeric(tokens[i]);
+            final boolean isOtherNumeric = isAsciiNumeric(otherTokens[i]);
+
+            final int result;
+            if (isNumeric && isOtherNumeric) {
+                result = new BigInteger(tokens[i]).compareTo(new BigInteger(otherTokens[i]));
+            } else if (isNumeric != isOtherNumeric) {
+                // Numeric identifiers have a lower precedence than alphanumeric ones.
+                result = isNumeric ? -1 : 1;
+            } else {
+                result = tokens[i].compareToIgnoreCase(otherTokens[i]);
+            }
+
+            if (result != 0) {
+                return result;
+            }
+        }
+
+        return Integer.compare(tokens.length, otherTokens.length);
+    }
+
+    private static int major(final Semver semver) {
+        return semver.getMajor();
+    }
+
+    private static int minor(final Semver semver) {
+        final Integer minor = semver.getMinor();
+        return minor != null ? minor : 0;
+    }
+
+    private static int patch(final Semver semver) {
+        final Integer patch = semver.getPatch();
+        return patch != null ? patch : 0;
+    }
+
+    private static String[] suffixTokens(final Semver semver) {
+        final String[] tokens = semver.getSuffixTokens();
+        return tokens != null ? tokens : NO_SUFFIX_TOKENS;
+    }
 }
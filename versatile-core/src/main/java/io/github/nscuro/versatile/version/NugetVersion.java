@@ -19,12 +19,14 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_NUGET;
+import static io.github.nscuro.versatile.version.VersionUtils.hashIgnoreCase;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 import static java.util.Objects.requireNonNull;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
@@ -41,11 +43,16 @@ public class NugetVersion extends Version {
         }
     }
 
+    private static final String[] NO_RELEASE_LABELS = new String[0];
+
     private final int major;
     private final int minor;
     private final int patch;
     private final int revision;
-    private final String @Nullable [] releaseLabels;
+    /**
+     * Empty for stable versions, since the pre-release label of a pre-release is never empty.
+     */
+    private final String[] releaseLabels;
     private final @Nullable String metadata;
     private final String normalizedString;
 
@@ -53,7 +60,7 @@ public class NugetVersion extends Version {
         super(SCHEME_NUGET, versionStr);
 
         if (versionStr.isEmpty()) {
-            throw new InvalidVersionException(versionStr, "Version must not be empty");
+            throw new StacklessInvalidVersionException(versionStr, "Version must not be empty");
         }
 
         String remaining = versionStr;
@@ -61,7 +68,7 @@ public class NugetVersion extends Version {
         if (Character.toLowerCase(remaining.charAt(0)) == 'v') {
             remaining = remaining.substring(1);
             if (remaining.isEmpty()) {
-                throw new InvalidVersionException(versionStr, "Version must not be empty");
+                throw new StacklessInvalidVersionException(versionStr, "Version must not be empty");
             }
         }
 
@@ -78,14 +85,14 @@ public class NugetVersion extends Version {
         if (preReleaseIndex >= 0) {
             prerelease = remaining.substring(preReleaseIndex + 1);
             if (prerelease.isEmpty()) {
-                throw new InvalidVersionException(versionStr, "Pre-release label must not be empty");
+                throw new StacklessInvalidVersionException(versionStr, "Pre-release label must not be empty");
             }
             remaining = remaining.substring(0, preReleaseIndex);
         }
 
         final String[] parts = remaining.split("\\.", -1);
         if (parts.length < 1 || parts.length > 4) {
-            throw new InvalidVersionException(versionStr, "Version must have 1 to 4 numeric components");
+            throw new StacklessInvalidVersionException(versionStr, "Version must have 1 to 4 numeric components");
         }
 
         this.major = parseComponent(versionStr, parts[0], "major");
@@ -97,11 +104,12 @@ public class NugetVersion extends Version {
             this.releaseLabels = prerelease.split("\\.", -1);
             for (final String label : this.releaseLabels) {
                 if (label.isEmpty()) {
-                    throw new InvalidVersionException(versionStr, "Pre-release label segment must not be empty");
+                    throw new StacklessInvalidVersionException(
+                            versionStr, "Pre-release label segment must not be empty");
                 }
             }
         } else {
-            this.releaseLabels = null;
+            this.releaseLabels = NO_RELEASE_LABELS;
         }
 
         this.normalizedString = normalize(prerelease);
@@ -128,19 +136,19 @@ public class NugetVersion extends Version {
 
     private static int parseComponent(String versionStr, String part, String name) {
         if (part.isEmpty()) {
-            throw new InvalidVersionException(versionStr, "Empty " + name + " version component");
+            throw new StacklessInvalidVersionException(versionStr, "Empty " + name + " version component");
         }
 
         try {
             return Integer.parseInt(part);
         } catch (final NumberFormatException e) {
-            throw new InvalidVersionException(versionStr, "Invalid " + name + " version component: " + part);
+            throw new StacklessInvalidVersionException(versionStr, "Invalid " + name + " version component: " + part);
         }
     }
 
     @Override
     public boolean isStable() {
-        return releaseLabels == null;
+        return releaseLabels.length == 0;
     }
 
     @Override
@@ -166,23 +174,35 @@ public class NugetVersion extends Version {
                 return cmp;
             }
 
-            if (this.releaseLabels != null && o.releaseLabels == null) {
+            if (this.releaseLabels.length != 0 && o.releaseLabels.length == 0) {
                 return -1;
             }
-            if (this.releaseLabels == null && o.releaseLabels != null) {
+            if (this.releaseLabels.length == 0 && o.releaseLabels.length != 0) {
                 return 1;
             }
-            if (this.releaseLabels == null) {
-                return 0;
-            }
 
-            return compareReleaseLabels(this.releaseLabels, requireNonNull(o.releaseLabels));
+            return compareReleaseLabels(this.releaseLabels, o.releaseLabels);
         }
 
         throw new IllegalArgumentException("%s can only be compared with its own type, but got %s"
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Metadata does not participate in comparison, and release labels are compared case-insensitively.
+     */
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(scheme, major, minor, patch, revision);
+        for (final String label : releaseLabels) {
+            hash = 31 * hash + (isAsciiNumeric(label) ? hashNumeric(label) : hashIgnoreCase(label));
+        }
+
+        return hash;
+    }
+
     private static int compareReleaseLabels(String[] a, String[] b) {
         requireNonNull(a, "a must not be null");
         requireNonNull(b, "b must not be null");
@@ -19,13 +19,14 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_PYPI;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 
-import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -92,7 +93,7 @@ public class PythonVersion extends Version {
 
         final Matcher matcher = VERSION_PATTERN.matcher(versionStr.strip());
         if (!matcher.matches()) {
-            throw new InvalidVersionException(versionStr, """
+            throw new StacklessInvalidVersionException(versionStr, """
                     Provided version "%s" does not match PEP 440 format: \
                     [N!]N(.N)*[{a|b|rc}N][.postN][.devN][+local]\
                     """.formatted(versionStr));
@@ -161,6 +162,29 @@ public class PythonVersion extends Version {
         return compareLocal(this.local, otherVersion.local);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Trailing zeros of the release segment are ignored, such that {@code 1.0} and {@code 1.0.0} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        int releaseEnd = release.size();
+        while (releaseEnd > 0 && release.get(releaseEnd - 1) == 0) {
+            releaseEnd--;
+        }
+
+        int localHash = 0;
+        if (local != null) {
+            for (final String part : LOCAL_SEGMENT_SEPARATOR_PATTERN.split(local)) {
+                localHash = 31 * localHash + (isAsciiNumeric(part) ? hashNumeric(part) : part.hashCode());
+            }
+        }
+
+        return Objects.hash(
+                scheme, epoch, release.subList(0, releaseEnd), preRelease, postRelease, devRelease, localHash);
+    }
+
     public int epoch() {
         return epoch;
     }
@@ -252,7 +276,7 @@ public class PythonVersion extends Version {
 
     private List<Integer> parseRelease(@Nullable String releaseStr) {
         if (releaseStr == null || releaseStr.isBlank()) {
-            throw new InvalidVersionException(this.versionStr, "Release segment is required");
+            throw new StacklessInvalidVersionException(this.versionStr, "Release segment is required");
         }
 
         final String[] parts = releaseStr.split("\\.");
@@ -277,7 +301,8 @@ public class PythonVersion extends Version {
                     case "b", "beta" -> PreRelease.Type.BETA;
                     case "c", "rc", "pre", "preview" -> PreRelease.Type.RC;
                     default ->
-                        throw new InvalidVersionException(this.versionStr, "Unknown pre-release type: " + preType);
+                        throw new StacklessInvalidVersionException(
+                                this.versionStr, "Unknown pre-release type: " + preType);
                 };
 
         final int num = (preNum == null || preNum.isBlank()) ? 0 : Integer.parseInt(preNum);
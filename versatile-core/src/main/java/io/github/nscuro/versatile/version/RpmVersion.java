@@ -19,6 +19,7 @@
 package io.github.nscuro.versatile.version;
 
 import static io.github.nscuro.versatile.version.KnownVersioningSchemes.SCHEME_RPM;
+import static io.github.nscuro.versatile.version.VersionUtils.hashNumeric;
 import static io.github.nscuro.versatile.version.VersionUtils.isAsciiNumeric;
 
 import io.github.nscuro.versatile.spi.InvalidVersionException;
@@ -70,7 +71,7 @@ public class RpmVersion extends Version {
 
         final Matcher versionMatcher = VERSION_PATTERN.matcher(versionStr);
         if (!versionMatcher.find()) {
-            throw new InvalidVersionException(versionStr, """
+            throw new StacklessInvalidVersionException(versionStr, """
                     Provided version "%s" does not match the RPM version format \
                     [epoch:]version[-release]\
                     """.formatted(versionStr));
@@ -83,7 +84,7 @@ public class RpmVersion extends Version {
         this.release = Optional.ofNullable(versionMatcher.group("release")).orElse("0");
 
         if (this.version == null) {
-            throw new InvalidVersionException(versionStr, """
+            throw new StacklessInvalidVersionException(versionStr, """
                     Provided version "%s" does not contain the mandatory version part, \
                     according to the RPM version format [epoch:]version[-release]\
                     """.formatted(versionStr));
@@ -134,6 +135,17 @@ public class RpmVersion extends Version {
                 .formatted(this.getClass().getName(), other.getClass().getName()));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Numeric segments are compared ignoring leading zeros, such that {@code 1.01} and {@code 1.1} hash identically.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * scheme.hashCode() + epoch) + hashSegments(versionSegments))
+                + hashSegments(releaseSegments);
+    }
+
     public int epoch() {
         return epoch;
     }
@@ -156,6 +168,15 @@ public class RpmVersion extends Version {
         return segments.toArray(new String[0]);
     }
 
+    private static int hashSegments(String[] segments) {
+        int hash = 1;
+        for (final String segment : segments) {
+            hash = 31 * hash + (isAsciiNumeric(segment) ? hashNumeric(segment) : segment.hashCode());
+        }
+
+        return hash;
+    }
+
     private static int rpmVerCmp(String[] segmentsA, String[] segmentsB) {
         // Loop through each version segment of a and b, and compare them.
         for (int i = 0; i < Math.max(segmentsA.length, segmentsB.length); i++) {
@@ -0,0 +1,48 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.version;
+
+import io.github.nscuro.versatile.spi.InvalidVersionException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link InvalidVersionException} that does not capture a stack trace.
+ * <p>
+ * Thrown by the constructors of built-in {@link io.github.nscuro.versatile.spi.Version}s,
+ * where capturing the stack trace would dominate the cost of rejecting an invalid version.
+ * {@link AbstractBuiltinVersionProvider} converts it to a regular {@link InvalidVersionException}
+ * before it reaches callers of {@code getVersion}, or to a failed result for callers of {@code tryGetVersion}.
+ *
+ * @since 0.24.0
+ */
+final class StacklessInvalidVersionException extends InvalidVersionException {
+
+    StacklessInvalidVersionException(String version, String message) {
+        super(version, message);
+    }
+
+    StacklessInvalidVersionException(String version, String message, @Nullable Throwable cause) {
+        super(version, message, cause);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
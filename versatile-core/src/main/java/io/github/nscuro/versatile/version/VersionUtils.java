@@ -62,4 +62,57 @@ final class VersionUtils {
 
         return true;
     }
+
+    /**
+     * @since 0.24.0
+     */
+    static boolean isAsciiZero(String str) {
+        if (str.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) != '0') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a hash code for a run of ASCII digits that ignores leading zeros,
+     * such that {@code 007} and {@code 7} hash identically.
+     *
+     * @since 0.24.0
+     */
+    static int hashNumeric(String digits) {
+        int i = 0;
+        while (i < digits.length() - 1 && digits.charAt(i) == '0') {
+            i++;
+        }
+
+        int hash = 0;
+        for (; i < digits.length(); i++) {
+            hash = 31 * hash + digits.charAt(i);
+        }
+
+        return hash;
+    }
+
+    /**
+     * Computes a hash code that is consistent with {@link String#compareToIgnoreCase(String)}.
+     *
+     * @since 0.24.0
+     */
+    static int hashIgnoreCase(String str) {
+        int hash = 0;
+        for (int i = 0; i < str.length(); ) {
+            final int codePoint = str.codePointAt(i);
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+
+        return hash;
+    }
 }
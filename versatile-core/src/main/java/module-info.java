@@ -19,12 +19,14 @@
 
 import io.github.nscuro.versatile.version.ApkVersion;
 import io.github.nscuro.versatile.version.CargoVersion;
+import io.github.nscuro.versatile.version.ComposerVersion;
 import io.github.nscuro.versatile.version.DebianVersion;
 import io.github.nscuro.versatile.version.GemVersion;
 import io.github.nscuro.versatile.version.GenericVersion;
 import io.github.nscuro.versatile.version.GoVersion;
 import io.github.nscuro.versatile.version.MavenVersion;
 import io.github.nscuro.versatile.version.NpmVersion;
+import io.github.nscuro.versatile.version.NugetVersion;
 import io.github.nscuro.versatile.version.PythonVersion;
 import io.github.nscuro.versatile.version.RpmVersion;
 import org.jspecify.annotations.NullMarked;
@@ -42,14 +44,17 @@ module io.github.nscuro.versatile.core {
     provides io.github.nscuro.versatile.spi.VersionProvider with
             ApkVersion.Provider,
             CargoVersion.Provider,
+            ComposerVersion.Provider,
             DebianVersion.Provider,
             GemVersion.Provider,
             GenericVersion.Provider,
             GoVersion.Provider,
             MavenVersion.Provider,
             NpmVersion.Provider,
+            NugetVersion.Provider,
             PythonVersion.Provider,
             RpmVersion.Provider;
 
+    uses io.github.nscuro.versatile.spi.PackedIntervalKernel;
     uses io.github.nscuro.versatile.spi.VersionProvider;
 }
\ No newline at end of file
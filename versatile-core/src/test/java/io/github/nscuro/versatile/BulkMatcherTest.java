@@ -0,0 +1,119 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.BulkMatcher.AdvisoryRow;
+import io.github.nscuro.versatile.BulkMatcher.InventoryRow;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BulkMatcherTest {
+
+    private static final BulkMatcher MATCHER = BulkMatcher.builder().build();
+
+    @Test
+    void testMatch() {
+        final Stream<InventoryRow<String, String>> inventory = Stream.of(
+                new InventoryRow<>("pkg:npm/foo", "1.0.0", "a"),
+                new InventoryRow<>("pkg:npm/foo", "1.5.0", "b"),
+                new InventoryRow<>("pkg:npm/foo", "2.0.0", "c"),
+                new InventoryRow<>("pkg:npm/bar", "1.0.0", "d"),
+                new InventoryRow<>("pkg:npm/baz", "1.0.0", "e"),
+                new InventoryRow<>("pkg:npm/foo", "not-a-version", "f"));
+        final Stream<AdvisoryRow<String, String>> advisories = Stream.of(
+                new AdvisoryRow<>("pkg:npm/foo", Vers.parse("vers:npm/>=1.0.0|<2.0.0"), "ADV-1"),
+                new AdvisoryRow<>("pkg:npm/foo", Vers.parse("vers:npm/<1.2.0|>=2.0.0"), "ADV-2"),
+                new AdvisoryRow<>("pkg:npm/bar", Vers.parse("vers:npm/>1.0.0"), "ADV-3"),
+                new AdvisoryRow<>("pkg:npm/qux", Vers.parse("vers:npm/*"), "ADV-4"));
+
+        final var matches = new ConcurrentLinkedQueue<String>();
+        MATCHER.match(inventory, advisories, (component, advisory) -> matches.add(component + ":" + advisory));
+
+        assertThat(matches).containsExactlyInAnyOrder("a:ADV-1", "a:ADV-2", "b:ADV-1", "c:ADV-2");
+    }
+
+    @Test
+    void testMatchWithMixedSchemes() {
+        final Stream<InventoryRow<String, String>> inventory = Stream.of(
+                new InventoryRow<>("foo", "1.0", "a"), new InventoryRow<>("foo", "2.0.0-beta", "b"));
+        final Stream<AdvisoryRow<String, String>> advisories = Stream.of(
+                new AdvisoryRow<>("foo", Vers.parse("vers:maven/1.0.0"), "ADV-1"),
+                new AdvisoryRow<>("foo", Vers.parse("vers:npm/>=2.0.0-alpha"), "ADV-2"));
+
+        final var matches = new ConcurrentLinkedQueue<String>();
+        MATCHER.match(inventory, advisories, (component, advisory) -> matches.add(component + ":" + advisory));
+
+        assertThat(matches).containsExactlyInAnyOrder("a:ADV-1", "b:ADV-2");
+    }
+
+    @Test
+    void testMatchAgreesWithContains() {
+        final var random = new Random(42);
+        final var inventoryRows = new ArrayList<InventoryRow<Integer, String>>();
+        final var advisoryRows = new ArrayList<AdvisoryRow<Integer, Integer>>();
+        for (int i = 0; i < 2_000; i++) {
+            final String version = "%d.%d.%d".formatted(random.nextInt(4), random.nextInt(4), random.nextInt(4));
+            inventoryRows.add(new InventoryRow<>(random.nextInt(20), version, i + "@" + version));
+        }
+        for (int i = 0; i < 200; i++) {
+            advisoryRows.add(new AdvisoryRow<>(random.nextInt(20), randomVers(random), i));
+        }
+
+        final var expected = new ArrayList<String>();
+        for (final InventoryRow<Integer, String> inventoryRow : inventoryRows) {
+            for (final AdvisoryRow<Integer, Integer> advisoryRow : advisoryRows) {
+                if (inventoryRow.packageKey().equals(advisoryRow.packageKey())
+                        && advisoryRow.vers().contains(inventoryRow.version())) {
+                    expected.add(inventoryRow.component() + ":" + advisoryRow.advisory());
+                }
+            }
+        }
+
+        final var matches = new ConcurrentLinkedQueue<String>();
+        try (final var pool = new ForkJoinPool(4)) {
+            BulkMatcher.builder()
+                    .withPool(pool)
+                    .build()
+                    .match(
+                            inventoryRows.stream(),
+                            advisoryRows.stream(),
+                            (component, advisory) -> matches.add(component + ":" + advisory));
+        }
+
+        assertThat(expected).isNotEmpty();
+        assertThat(matches).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private static Vers randomVers(final Random random) {
+        final var constraints = new ArrayList<String>();
+        for (int major = random.nextInt(2); major < 4; major += 1 + random.nextInt(2)) {
+            final int minor = random.nextInt(3);
+            constraints.add(">=%d.%d.%d".formatted(major, minor, random.nextInt(4)));
+            constraints.add("%s%d.%d.0".formatted(random.nextBoolean() ? "<=" : "<", major, minor + 1));
+        }
+
+        return Vers.parse("vers:generic/" + String.join("|", constraints));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.DistroAdvisoryIndex.Partition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class DistroAdvisoryIndexTest {
+
+    private static final DistroAdvisoryIndex<String, String> INDEX = DistroAdvisoryIndex.<String, String>builder()
+            .withRange("Debian:11", "openssl", Vers.parse("vers:deb/<1.1.1n-0+deb11u4"), "DSA-11")
+            .withRange("Debian:12", "openssl", Vers.parse("vers:deb/<3.0.11-1~deb12u2"), "DSA-12")
+            .withRange("Debian", "openssl", Vers.parse("vers:deb/<1.1.0"), "DSA-ALL")
+            .withRange("Ubuntu:22.04:LTS", "openssl", Vers.parse("vers:deb/<3.0.2-0ubuntu1.10"), "USN-1")
+            .withRange("Alpine:v3.18", "openssl", Vers.parse("vers:apk/<3.1.4-r1"), "ALPINE-1")
+            .build();
+
+    @ParameterizedTest
+    @CsvSource({
+        "Debian:11, 1.1.1n-0+deb11u3, DSA-11",
+        "Debian:11, 1.1.0, DSA-11",
+        "Debian:11, 1.0.2, DSA-11 DSA-ALL",
+        "Debian:11, 3.0.0, ''",
+        "Debian:12, 1.1.1n-0+deb11u3, DSA-12",
+        "Debian:12, 3.0.11-1~deb12u2, ''",
+        "Debian:10, 1.0.2, DSA-ALL",
+        "Debian, 1.0.2, DSA-ALL",
+        "Ubuntu:22.04:LTS, 3.0.2-0ubuntu1.9, USN-1",
+        "Ubuntu:20.04:LTS, 1.1.1f-1ubuntu2, ''",
+        "Alpine:v3.18, 3.1.4-r0, ALPINE-1",
+        "Alpine:v3.19, 3.1.4-r0, ''"
+    })
+    void testMatch(final String ecosystem, final String version, final String expectedAdvisories) {
+        assertThat(INDEX.match(Partition.ofOsvEcosystem(ecosystem), "openssl", version))
+                .containsExactlyInAnyOrder(
+                        expectedAdvisories.isEmpty() ? new String[0] : expectedAdvisories.split(" "));
+    }
+
+    @Test
+    void testCandidateCount() {
+        assertThat(INDEX.candidateCount(new Partition("Debian", "11"), "openssl")).isEqualTo(2);
+        assertThat(INDEX.candidateCount(new Partition("Debian", null), "openssl")).isEqualTo(1);
+        assertThat(INDEX.candidateCount(new Partition("Alpine", "v3.18"), "openssl")).isEqualTo(1);
+        assertThat(INDEX.candidateCount(new Partition("Alpine", "v3.18"), "curl")).isZero();
+    }
+
+    @Test
+    void testPartitionOfOsvEcosystem() {
+        assertThat(Partition.ofOsvEcosystem("Ubuntu:22.04:LTS")).isEqualTo(new Partition("Ubuntu", "22.04:LTS"));
+        assertThat(Partition.ofOsvEcosystem("Debian")).isEqualTo(new Partition("Debian", null));
+        assertThat(Partition.ofOsvEcosystem("Debian:")).isEqualTo(new Partition("Debian", null));
+        assertThat(Partition.ofOsvEcosystem("npm")).isEqualTo(new Partition("npm", null));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.BulkMatcher.InventoryRow;
+import io.github.nscuro.versatile.IncrementalMatcher.AdvisoryChange;
+import io.github.nscuro.versatile.IncrementalMatcher.Match;
+import io.github.nscuro.versatile.IncrementalMatcher.MatchDelta;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class IncrementalMatcherTest {
+
+    @Test
+    void testApply() {
+        final IncrementalMatcher<String, String, String> matcher = IncrementalMatcher.of(Stream.of(
+                new InventoryRow<>("foo", "1.0.0", "a"),
+                new InventoryRow<>("foo", "1.5.0", "b"),
+                new InventoryRow<>("foo", "2.0.0", "c"),
+                new InventoryRow<>("foo", "not-a-version", "d"),
+                new InventoryRow<>("bar", "1.0.0", "e")));
+
+        MatchDelta<String, String, String> delta = matcher.apply(List.of(
+                new AdvisoryChange<>("foo", "ADV-1", Vers.parse("vers:npm/>=1.0.0|<2.0.0")),
+                new AdvisoryChange<>("bar", "ADV-1", Vers.parse("vers:npm/*")),
+                new AdvisoryChange<>("baz", "ADV-2", Vers.parse("vers:npm/*"))));
+        assertThat(delta.added())
+                .containsExactly(
+                        new Match<>("foo", "a", "ADV-1"),
+                        new Match<>("foo", "b", "ADV-1"),
+                        new Match<>("bar", "e", "ADV-1"));
+        assertThat(delta.removed()).isEmpty();
+        assertThat(matcher.matchCount()).isEqualTo(3);
+
+        delta = matcher.apply(
+                List.of(new AdvisoryChange<>("foo", "ADV-1", Vers.parse("vers:npm/>=1.5.0|<=2.0.0"))));
+        assertThat(delta.added()).containsExactly(new Match<>("foo", "c", "ADV-1"));
+        assertThat(delta.removed()).containsExactly(new Match<>("foo", "a", "ADV-1"));
+        assertThat(matcher.matches("foo", "ADV-1")).containsExactly("b", "c");
+        assertThat(matcher.matchCount()).isEqualTo(3);
+
+        delta = matcher.apply(List.of(new AdvisoryChange<>("bar", "ADV-1", null)));
+        assertThat(delta.added()).isEmpty();
+        assertThat(delta.removed()).containsExactly(new Match<>("bar", "e", "ADV-1"));
+        assertThat(matcher.matches("bar", "ADV-1")).isEmpty();
+        assertThat(matcher.matchCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testApplyReportsNetDelta() {
+        final IncrementalMatcher<String, String, String> matcher =
+                IncrementalMatcher.of(Stream.of(new InventoryRow<>("foo", "1.0.0", "a")));
+        matcher.apply(List.of(new AdvisoryChange<>("foo", "ADV-1", Vers.parse("vers:npm/1.0.0"))));
+
+        final MatchDelta<String, String, String> delta = matcher.apply(List.of(
+                new AdvisoryChange<>("foo", "ADV-1", null),
+                new AdvisoryChange<>("foo", "ADV-1", Vers.parse("vers:npm/<2.0.0")),
+                new AdvisoryChange<>("foo", "ADV-2", Vers.parse("vers:npm/*")),
+                new AdvisoryChange<>("foo", "ADV-2", Vers.parse("vers:npm/>1.0.0"))));
+        assertThat(delta.isEmpty()).isTrue();
+        assertThat(matcher.matches("foo", "ADV-1")).containsExactly("a");
+        assertThat(matcher.matchCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testApplyDistinguishesPackagesOfSameComponent() {
+        final IncrementalMatcher<String, String, String> matcher = IncrementalMatcher.of(Stream.of(
+                new InventoryRow<>("foo", "1.0.0", "svc"), new InventoryRow<>("bar", "1.0.0", "svc")));
+        matcher.apply(List.of(new AdvisoryChange<>("foo", "ADV-1", Vers.parse("vers:npm/1.0.0"))));
+
+        final MatchDelta<String, String, String> delta = matcher.apply(List.of(
+                new AdvisoryChange<>("foo", "ADV-1", null),
+                new AdvisoryChange<>("bar", "ADV-1", Vers.parse("vers:npm/1.0.0"))));
+        assertThat(delta.added()).containsExactly(new Match<>("bar", "svc", "ADV-1"));
+        assertThat(delta.removed()).containsExactly(new Match<>("foo", "svc", "ADV-1"));
+        assertThat(matcher.matches("foo", "ADV-1")).isEmpty();
+        assertThat(matcher.matches("bar", "ADV-1")).containsExactly("svc");
+        assertThat(matcher.matchCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class IntervalsTest {
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            value = {
+                "vers:generic/*; [(,)]",
+                "vers:generic/1.0.0; [[1.0.0,1.0.0]]",
+                "vers:generic/!=1.0.0; [(,1.0.0), (1.0.0,)]",
+                "vers:generic/!=1.0.0|!=2.0.0; []",
+                "vers:generic/<1.0.0; [(,1.0.0)]",
+                "vers:generic/<=1.0.0; [(,1.0.0]]",
+                "vers:generic/>=1.0.0|<2.0.0; [[1.0.0,2.0.0)]",
+                "vers:generic/>1.0.0|!=1.5.0|<=2.0.0; [(1.0.0,1.5.0), (1.5.0,2.0.0]]",
+                "vers:generic/<1.0.0|1.0.0|>1.0.0; [(,)]",
+                "vers:generic/1.0.0|>=1.0.0|<2.0.0|2.0.0; [[1.0.0,2.0.0]]",
+                "vers:generic/<=1.0.0|1.5.0|>=2.0.0; [(,1.0.0], [1.5.0,1.5.0], [2.0.0,)]",
+                "vers:generic/>=1.0.0|!=1.0.0|<2.0.0; [[1.0.0,2.0.0)]"
+            })
+    void testOf(final String versStr, final String expectedIntervals) {
+        assertThat(Intervals.of(Vers.parseLenient(versStr).constraints()))
+                .hasToString(expectedIntervals);
+    }
+
+    @Test
+    void testOfWithNonAlternatingBounds() {
+        assertThat(Intervals.of(Vers.parseLenient("vers:generic/>1.0.0|>2.0.0").constraints()))
+                .isNull();
+        assertThat(Intervals.of(Vers.parseLenient("vers:generic/<1.0.0|<2.0.0").constraints()))
+                .isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>1.0.0|!=1.5.0|<=2.0.0'",
+        "'vers:generic/<=1.0.0|1.5.0|>=2.0.0|<3.0.0|!=4.0.0'",
+        "'vers:generic/!=1.5.0'",
+        "'vers:generic/1.0.0|2.0.0'"
+    })
+    void testOfMatchesContains(final String versStr) {
+        final Vers vers = Vers.parseLenient(versStr);
+        final var intervals = Intervals.of(vers.constraints());
+        assertThat(intervals).isNotNull();
+
+        for (final String versionStr : List.of("0.9", "1.0.0", "1.2", "1.5.0", "1.7", "2.0.0", "2.5", "4.0.0", "5")) {
+            final var version = VersionFactory.forScheme("generic", versionStr);
+            final boolean inIntervals = intervals.stream()
+                    .anyMatch(interval -> interval.intersects(Interval.point(version)));
+            assertThat(inIntervals).as(versionStr).isEqualTo(vers.contains(versionStr));
+        }
+    }
+}
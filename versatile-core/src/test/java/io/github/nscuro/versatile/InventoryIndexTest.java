@@ -0,0 +1,66 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.BulkMatcher.InventoryRow;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class InventoryIndexTest {
+
+    private static final InventoryIndex<String, String> INDEX = InventoryIndex.of(Stream.of(
+            new InventoryRow<>("foo", "2.0.0", "svc-c"),
+            new InventoryRow<>("foo", "1.0.0", "svc-a"),
+            new InventoryRow<>("foo", "1.5.0", "svc-b"),
+            new InventoryRow<>("foo", "1.5.0", "svc-d"),
+            new InventoryRow<>("foo", "3.0.0-beta", "svc-e"),
+            new InventoryRow<>("foo", "not-a-version", "svc-f"),
+            new InventoryRow<>("bar", "1.0", "svc-g"),
+            new InventoryRow<>("baz", "v1.", "svc-h"),
+            new InventoryRow<>("baz", "v1.2.0", "svc-i")));
+
+    @ParameterizedTest
+    @CsvSource({
+        "foo, vers:npm/*, svc-a svc-b svc-d svc-c svc-e",
+        "foo, vers:npm/>1.0.0|<2.0.0, svc-b svc-d",
+        "foo, vers:npm/<1.5.0|>=2.0.0, svc-a svc-c svc-e",
+        "foo, vers:npm/1.5.0, svc-b svc-d",
+        "foo, vers:npm/!=1.5.0, svc-a svc-c svc-e",
+        "foo, vers:npm/>3.0.0, ''",
+        "bar, vers:maven/1.0.0, svc-g",
+        "baz, vers:golang/*, svc-i",
+        "qux, vers:npm/*, ''"
+    })
+    void testAffectedBy(final String packageKey, final String versStr, final String expectedComponents) {
+        assertThat(INDEX.affectedBy(packageKey, Vers.parse(versStr)))
+                .containsExactly(expectedComponents.isEmpty() ? new String[0] : expectedComponents.split(" "));
+    }
+
+    @Test
+    void testSize() {
+        assertThat(INDEX.size()).isEqualTo(9);
+        assertThat(INDEX.packageCount()).isEqualTo(3);
+        assertThat(INDEX.containsPackage("foo")).isTrue();
+        assertThat(INDEX.containsPackage("qux")).isFalse();
+    }
+}
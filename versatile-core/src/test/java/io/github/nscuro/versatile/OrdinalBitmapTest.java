@@ -0,0 +1,128 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class OrdinalBitmapTest {
+
+    @Test
+    void shouldEncodeOrdinalsAsRuns() {
+        final OrdinalBitmap bitmap = OrdinalBitmap.of(5, 1, 2, 3, 9, 2);
+        assertThat(bitmap).hasToString("{[1,4), [5,6), [9,10)}");
+        assertThat(bitmap.runCount()).isEqualTo(3);
+        assertThat(bitmap.cardinality()).isEqualTo(5);
+        assertThat(bitmap.stream()).containsExactly(1, 2, 3, 5, 9);
+        assertThat(bitmap.contains(3)).isTrue();
+        assertThat(bitmap.contains(4)).isFalse();
+        assertThat(bitmap.nextSetOrdinal(0)).isEqualTo(1);
+        assertThat(bitmap.nextSetOrdinal(4)).isEqualTo(5);
+        assertThat(bitmap.nextSetOrdinal(10)).isEqualTo(-1);
+        assertThat(bitmap.nextClearOrdinal(1)).isEqualTo(4);
+        assertThat(bitmap.nextClearOrdinal(9)).isEqualTo(10);
+        assertThat(OrdinalBitmap.range(1, 4).or(OrdinalBitmap.range(4, 6))).isEqualTo(OrdinalBitmap.range(1, 6));
+    }
+
+    @Test
+    void shouldHandleEmptyBitmaps() {
+        final OrdinalBitmap empty = OrdinalBitmap.empty();
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(empty.nextSetOrdinal(0)).isEqualTo(-1);
+        assertThat(empty.nextClearOrdinal(0)).isZero();
+        assertThat(OrdinalBitmap.range(3, 3)).isEqualTo(empty);
+        assertThat(OrdinalBitmap.range(0, 5).andNot(OrdinalBitmap.range(0, 5))).isEqualTo(empty);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> OrdinalBitmap.of(-1));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> OrdinalBitmap.of(Integer.MAX_VALUE));
+        assertThat(OrdinalBitmap.of(Integer.MAX_VALUE - 1).contains(Integer.MAX_VALUE - 1)).isTrue();
+    }
+
+    @Test
+    void shouldStreamBitmapWithManyRuns() {
+        final int[] ordinals = IntStream.range(0, 100_000).map(i -> 2 * i).toArray();
+        final OrdinalBitmap bitmap = OrdinalBitmap.of(ordinals);
+        assertThat(bitmap.runCount()).isEqualTo(100_000);
+        assertThat(bitmap.stream().toArray()).isEqualTo(ordinals);
+    }
+
+    @Test
+    void shouldAgreeWithBitSet() {
+        final var random = new Random(42);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            final BitSet bitSetA = randomBitSet(random);
+            final BitSet bitSetB = randomBitSet(random);
+            final OrdinalBitmap bitmapA = OrdinalBitmap.of(bitSetA.stream().toArray());
+            final OrdinalBitmap bitmapB = OrdinalBitmap.of(bitSetB.stream().toArray());
+
+            final BitSet expectedAnd = (BitSet) bitSetA.clone();
+            expectedAnd.and(bitSetB);
+            final BitSet expectedOr = (BitSet) bitSetA.clone();
+            expectedOr.or(bitSetB);
+            final BitSet expectedAndNot = (BitSet) bitSetA.clone();
+            expectedAndNot.andNot(bitSetB);
+
+            assertThat(bitmapA.and(bitmapB).stream().toArray()).containsExactly(expectedAnd.stream().toArray());
+            assertThat(bitmapA.or(bitmapB).stream().toArray()).containsExactly(expectedOr.stream().toArray());
+            assertThat(bitmapA.andNot(bitmapB).stream().toArray()).containsExactly(expectedAndNot.stream().toArray());
+            assertThat(bitmapA.cardinality()).isEqualTo(bitSetA.cardinality());
+            assertThat(bitmapA.nextClearOrdinal(0)).isEqualTo(bitSetA.nextClearBit(0));
+        }
+    }
+
+    @Test
+    void shouldCombineRangesCompiledAgainstCatalogue() {
+        final VersionCatalogue catalogue =
+                VersionCatalogue.of("npm", List.of("1.0.0", "1.1.0", "1.2.0", "2.0.0", "2.1.0", "3.0.0"));
+        final OrdinalBitmap advisoryA =
+                catalogue.compile(Vers.parse("vers:npm/>=1.0.0|<1.2.0")).toBitmap();
+        final OrdinalBitmap advisoryB =
+                catalogue.compile(Vers.parse("vers:npm/>=1.1.0|<2.1.0")).toBitmap();
+
+        assertThat(catalogue.versionsOf(advisoryA.or(advisoryB)))
+                .map(Version::toString)
+                .containsExactly("1.0.0", "1.1.0", "1.2.0", "2.0.0");
+        assertThat(catalogue.versionsOf(advisoryA.and(advisoryB)))
+                .map(Version::toString)
+                .containsExactly("1.1.0");
+        assertThat(catalogue.versionsOf(advisoryB.andNot(advisoryA)))
+                .map(Version::toString)
+                .containsExactly("1.2.0", "2.0.0");
+        assertThat(catalogue.get(advisoryA.or(advisoryB).nextClearOrdinal(0))).hasToString("2.1.0");
+    }
+
+    private static BitSet randomBitSet(Random random) {
+        final var bitSet = new BitSet();
+        int ordinal = random.nextInt(5);
+        while (ordinal < 100) {
+            final int runLength = 1 + random.nextInt(8);
+            bitSet.set(ordinal, ordinal + runLength);
+            ordinal += runLength + random.nextInt(8);
+        }
+
+        return bitSet;
+    }
+}
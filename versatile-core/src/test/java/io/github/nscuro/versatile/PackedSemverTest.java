@@ -0,0 +1,145 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PackedSemverTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "npm, 1.2.3, 1.2.4",
+        "npm, 1.2.3, 1.3.0",
+        "npm, 1.9.9, 2.0.0",
+        "npm, 1.2.3-alpha, 1.2.3",
+        "npm, 1.2.3, 1.2.4-alpha",
+        "cargo, 0.0.1, 0.1.0",
+        "cargo, 1.2.3-rc.1, 1.2.3",
+        "golang, v1.2.3, v1.10.0",
+        "golang, v0.0.0-20210101000000-abcdefabcdef, v0.0.0",
+        "nuget, 1.0.0-beta, 1.0.0"
+    })
+    void testPackPreservesOrder(final String scheme, final String lowerVersion, final String higherVersion) {
+        final long lower = PackedSemver.pack(VersionFactory.forScheme(scheme, lowerVersion));
+        final long higher = PackedSemver.pack(VersionFactory.forScheme(scheme, higherVersion));
+
+        assertThat(lower).isNotEqualTo(PackedSemver.NOT_PACKABLE).isLessThan(higher);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"npm, 1.2.3, 1.2.3+build", "golang, v1.2.3, v1.2.3+incompatible"})
+    void testPackIgnoresBuildMetadata(final String scheme, final String versionA, final String versionB) {
+        assertThat(PackedSemver.pack(VersionFactory.forScheme(scheme, versionA)))
+                .isEqualTo(PackedSemver.pack(VersionFactory.forScheme(scheme, versionB)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"npm, 1.2.3, false", "npm, 1.2.3-alpha, true", "golang, v1.2.3-pre, true"})
+    void testIsPrerelease(final String scheme, final String version, final boolean expectedPrerelease) {
+        assertThat(PackedSemver.isPrerelease(PackedSemver.pack(VersionFactory.forScheme(scheme, version))))
+                .isEqualTo(expectedPrerelease);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"maven:1.2.3", "nuget:1.2.3.4", "npm:1.2.123456789", "golang:v2000000.0.0"})
+    void testPackReturnsNotPackable(final String schemeAndVersion) {
+        final String[] parts = schemeAndVersion.split(":", 2);
+        assertThat(PackedSemver.pack(VersionFactory.forScheme(parts[0], parts[1])))
+                .isEqualTo(PackedSemver.NOT_PACKABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"npm", "cargo", "golang", "nuget"})
+    void testPackedRangesAgreeWithVers(final String scheme) {
+        final String prefix = "golang".equals(scheme) ? "v" : "";
+        final var random = new Random(42);
+        final var ranges = new ArrayList<Vers>();
+        for (int i = 0; i < 300; i++) {
+            final int major = random.nextInt(3);
+            final int minor = random.nextInt(5);
+            final String lower = (random.nextBoolean() ? ">=" : ">") + prefix + major + "." + minor + ".0";
+            final String upper = (random.nextBoolean() ? "<=" : "<") + prefix + major + "." + (minor + 1) + ".2";
+            ranges.add(Vers.parse("vers:%s/%s|%s".formatted(scheme, lower, upper)));
+        }
+        ranges.add(Vers.parse("vers:%s/*".formatted(scheme)));
+        ranges.add(Vers.parse("vers:%s/!=%s1.2.0".formatted(scheme, prefix)));
+
+        final PackedSemverRanges packedRanges = PackedSemverRanges.of(ranges);
+        assertThat(packedRanges.isPacked()).isTrue();
+        assertThat(packedRanges.size()).isEqualTo(ranges.size());
+
+        for (int i = 0; i < 200; i++) {
+            final String versionStr = "%s%d.%d.%d%s"
+                    .formatted(
+                            prefix,
+                            random.nextInt(3),
+                            random.nextInt(7),
+                            random.nextInt(3),
+                            random.nextInt(4) == 0 ? "-beta" : "");
+            final Version version = VersionFactory.forScheme(scheme, versionStr);
+
+            final var expected = new BitSet();
+            for (int j = 0; j < ranges.size(); j++) {
+                if (ranges.get(j).contains(versionStr)) {
+                    expected.set(j);
+                }
+            }
+            assertThat(packedRanges.matching(version)).as(versionStr).isEqualTo(expected);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1.0.0-beta, true", "1.0.0-alpha, false", "1.0.0, true", "0.9.0, false"})
+    void testPackedRangesWithPrereleaseEndpoint(final String versionStr, final boolean expectedMatch) {
+        final PackedSemverRanges packedRanges = PackedSemverRanges.of(List.of(Vers.parse("vers:npm/>=1.0.0-beta")));
+
+        assertThat(packedRanges.isPacked()).isFalse();
+        assertThat(packedRanges.matching(VersionFactory.forScheme("npm", versionStr)).get(0))
+                .isEqualTo(expectedMatch);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0.5.0", "1.0.0", "1.5.0", "2.0.0-alpha", "2.0.0-beta", "2.0.0", "3.0.0-rc.1", "3.0.0"})
+    void testPackedRangesWithSomePrereleaseEndpoints(final String versionStr) {
+        final List<Vers> ranges = List.of(
+                Vers.parse("vers:npm/<1.0.0|>=2.0.0-beta"),
+                Vers.parse("vers:npm/>=1.0.0|<3.0.0"),
+                Vers.parse("vers:npm/<3.0.0-rc.1"),
+                Vers.parse("vers:npm/1.5.0|>=3.0.0"));
+        final PackedSemverRanges packedRanges = PackedSemverRanges.of(ranges);
+        assertThat(packedRanges.isPacked()).isFalse();
+
+        final var expected = new BitSet();
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i).contains(versionStr)) {
+                expected.set(i);
+            }
+        }
+        assertThat(packedRanges.matching(VersionFactory.forScheme("npm", versionStr))).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.UpgradeRecommender.Policy;
+import io.github.nscuro.versatile.spi.Version;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class UpgradeRecommenderTest {
+
+    private static final VersionCatalogue CATALOGUE = VersionCatalogue.of(
+            "npm",
+            List.of(
+                    "1.0.0", "1.1.0", "1.2.0", "1.2.1-rc.1", "1.2.1", "1.3.0", "2.0.0-beta.1", "2.0.0", "2.1.0",
+                    "3.0.0"));
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            nullValues = "NONE",
+            value = {
+                "1.0.0; vers:npm/<1.2.0; MINIMAL_BUMP; 1.2.0",
+                "1.0.0; vers:npm/<1.2.0|>=1.2.1-rc.1|<1.3.0; MINIMAL_BUMP; 1.2.0",
+                "1.0.0; vers:npm/<1.2.1-rc.1; MINIMAL_BUMP; 1.2.1-rc.1",
+                "1.0.0; vers:npm/<1.2.1-rc.1; STABLE_ONLY; 1.2.1",
+                "1.0.0; vers:npm/<2.0.0-beta.1; MINIMAL_BUMP; 2.0.0-beta.1",
+                "1.0.0; vers:npm/<2.0.0-beta.1; SAME_MAJOR; NONE",
+                "1.0.0; vers:npm/<2.0.0; STABLE_ONLY; 2.0.0",
+                "1.3.0; vers:npm/<2.1.0; MINIMAL_BUMP; 2.1.0",
+                "1.1.0; vers:npm/>=1.1.0|<1.2.1; SAME_MAJOR; 1.2.1",
+                "1.0.0; vers:npm/*; MINIMAL_BUMP; NONE",
+                "3.0.0; vers:npm/<=3.0.0; MINIMAL_BUMP; NONE",
+                "1.1.5; vers:npm/<1.2.0; MINIMAL_BUMP; 1.2.0"
+            })
+    void shouldRecommendNearestUnaffectedVersion(
+            String currentVersion, String versStr, Policy policy, String expectedVersion) {
+        final var recommender = new UpgradeRecommender(CATALOGUE);
+        final Version current = VersionFactory.forScheme("npm", currentVersion);
+
+        assertThat(recommender.recommend(current, List.of(Vers.parse(versStr)), policy).map(Version::toString))
+                .isEqualTo(Optional.ofNullable(expectedVersion));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            value = {
+                "1.0.0; MINIMAL_BUMP; 1.2.1-rc.1",
+                "1.0.0; STABLE_ONLY; 1.3.0",
+                "1.2.0; SAME_MAJOR; 1.2.1-rc.1"
+            })
+    void shouldSkipVersionsAffectedByAnyRange(String currentVersion, Policy policy, String expectedVersion) {
+        final var recommender = new UpgradeRecommender(CATALOGUE);
+        final Version current = VersionFactory.forScheme("npm", currentVersion);
+        final List<Vers> ranges = List.of(
+                Vers.parse("vers:npm/<1.1.0"),
+                Vers.parse("vers:npm/>=1.1.0|<=1.2.0"),
+                Vers.parse("vers:npm/1.2.1"));
+
+        assertThat(recommender.recommend(current, ranges, policy).map(Version::toString))
+                .hasValue(expectedVersion);
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = ';',
+            nullValues = "NONE",
+            value = {
+                "deb; 1:2.0-1 1:2.1-1 1:3.0-1; 1:2.0-1; vers:deb/1:2.1-1; 1:3.0-1; NONE",
+                "deb; 2.0-1 2.1-1 1:2.2-1; 2.0-1; vers:deb/2.1-1; 1:2.2-1; NONE",
+                "deb; 2.0-1 0:2.1-1 2.2-1; 2.0-1; vers:deb/2.1-1; 2.2-1; 2.2-1",
+                "rpm; 1:2.0-1 1:2.5-1 2:2.6-1; 1:2.0-1; vers:rpm/1:2.5-1; 2:2.6-1; NONE",
+                "pypi; 1!2.0 1!2.1 1!3.0; 1!2.0; vers:pypi/1%212.1; 1!3.0; NONE",
+                "pypi; 1!2.0 1!2.1 1!2.2; 1!2.0; vers:pypi/1%212.1; 1!2.2; 1!2.2"
+            })
+    void shouldConsiderEpochForSameMajor(
+            String scheme,
+            String availableVersions,
+            String currentVersion,
+            String versStr,
+            String expectedMinimalBump,
+            String expectedSameMajor) {
+        final var recommender =
+                new UpgradeRecommender(VersionCatalogue.of(scheme, List.of(availableVersions.split(" "))));
+        final Version current = VersionFactory.forScheme(scheme, currentVersion);
+        final List<Vers> ranges = List.of(Vers.parse(versStr));
+
+        assertThat(recommender.recommend(current, ranges, Policy.MINIMAL_BUMP).map(Version::toString))
+                .hasValue(expectedMinimalBump);
+        assertThat(recommender.recommend(current, ranges, Policy.SAME_MAJOR).map(Version::toString))
+                .isEqualTo(Optional.ofNullable(expectedSameMajor));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class VersCacheTest {
+
+    @Test
+    void shouldReturnCachedRangeForSameInput() {
+        final VersCache cache = VersCache.create(10);
+
+        final Vers vers = cache.parse("vers:npm/>=1.0.0|<2.0.0");
+        assertThat(cache.parse("vers:npm/>=1.0.0|<2.0.0")).isSameAs(vers);
+        assertThat(cache.size()).isEqualTo(1);
+
+        final CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.requestCount()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldCacheStrictAndLenientParsesSeparately() {
+        final VersCache cache = VersCache.create(10);
+
+        final Vers lenient = cache.parseLenient("vers:npm/<2.0.0|>=1.0.0");
+        assertThat(lenient).hasToString("vers:npm/>=1.0.0|<2.0.0");
+        assertThatExceptionOfType(VersException.class).isThrownBy(() -> cache.parse("vers:npm/<2.0.0|>=1.0.0"));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        final VersCache cache = VersCache.create(10);
+
+        assertThatExceptionOfType(VersException.class).isThrownBy(() -> cache.parse("vers:npm/>=2.0.0|<1.0.0"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRetainFrequentlyUsedRangesWhenScanned() {
+        final VersCache cache = VersCache.create(5);
+
+        // Promote the range to the protected segment by accessing it twice.
+        final Vers frequent = cache.parse("vers:npm/>=1.0.0|<2.0.0");
+        cache.parse("vers:npm/>=1.0.0|<2.0.0");
+
+        for (int i = 0; i < 100; i++) {
+            cache.parse("vers:npm/>=3.0.%d".formatted(i));
+        }
+
+        assertThat(cache.size()).isEqualTo(5);
+        assertThat(cache.parse("vers:npm/>=1.0.0|<2.0.0")).isSameAs(frequent);
+        assertThat(cache.stats().evictionCount()).isEqualTo(96);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedProtectedRangeLast() {
+        final VersCache cache = VersCache.create(1);
+
+        final Vers first = cache.parse("vers:npm/1.0.0");
+        assertThat(cache.parse("vers:npm/1.0.0")).isSameAs(first);
+        cache.parse("vers:npm/2.0.0");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.parse("vers:npm/1.0.0")).isNotSameAs(first);
+    }
+
+    @Test
+    void shouldStayWithinMaximumSizeAcrossStripes() {
+        final VersCache cache = VersCache.create(1000);
+
+        for (int i = 0; i < 3000; i++) {
+            cache.parse("vers:npm/>=1.%d.0".formatted(i));
+        }
+
+        assertThat(cache.size()).isEqualTo(1000);
+        assertThat(cache.stats().evictionCount()).isEqualTo(2000);
+        assertThat(cache.stats().missCount()).isEqualTo(3000);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectNonPositiveMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> VersCache.create(0));
+    }
+}
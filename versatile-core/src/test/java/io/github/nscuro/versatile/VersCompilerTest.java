@@ -0,0 +1,97 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class VersCompilerTest {
+
+    private static final List<String> VERSIONS = List.of(
+            "0.1.0", "1.0.0-beta", "1.0.0", "1.0.1", "1.2.0", "1.5.0", "1.9.9", "2.0.0-rc.1", "2.0.0", "2.0.1",
+            "2.5.0", "3.0.0", "4.0.0", "10.0.0");
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "vers:npm/*",
+                "vers:npm/1.5.0",
+                "vers:npm/!=1.5.0",
+                "vers:npm/<2.0.0",
+                "vers:npm/<=2.0.0",
+                "vers:npm/>2.0.0",
+                "vers:npm/>=2.0.0",
+                "vers:npm/>=1.0.0|<2.0.0",
+                "vers:npm/>1.0.0|<=2.0.0",
+                "vers:npm/>=1.0.0|!=1.5.0|<2.0.0|2.5.0|>3.0.0",
+                "vers:npm/<1.0.0|>=1.2.0|<=1.9.9|>=2.0.1|<3.0.0|>=4.0.0",
+                "vers:npm/1.0.0|1.2.0|2.0.0"
+            })
+    void testCompiledAgreesWithContains(final String versStr) {
+        final Vers vers = Vers.parse(versStr);
+        final CompiledVers compiled = vers.compile();
+
+        assertThat(compiled.vers()).isSameAs(vers);
+        assertThat(compiled).hasToString(versStr);
+        for (final String version : VERSIONS) {
+            assertThat(compiled.contains(version)).as(version).isEqualTo(vers.contains(version));
+            assertThat(compiled.test(VersionFactory.forScheme("npm", version)))
+                    .as(version)
+                    .isEqualTo(vers.contains(version));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            ints = {
+                VersCompiler.MAX_UNROLLED_INTERVALS - 1,
+                VersCompiler.MAX_UNROLLED_INTERVALS,
+                VersCompiler.MAX_UNROLLED_INTERVALS + 1,
+                5000
+            })
+    void testCompiledAgreesWithContainsForLargeRange(final int intervalCount) {
+        final var versStr = new StringBuilder("vers:npm/");
+        for (int i = 0; i < intervalCount; i++) {
+            versStr.append(i == 0 ? "" : "|").append(">=%d.0.0|<%d.5.0".formatted(i, i));
+        }
+
+        final Vers vers = Vers.parse(versStr.toString());
+        final CompiledVers compiled = vers.compile();
+
+        assertThat(vers.intervals()).hasSize(intervalCount);
+        for (int i = 0; i <= intervalCount; i += Math.max(1, intervalCount / 100)) {
+            for (final String version : List.of("%d.0.0", "%d.4.9", "%d.5.0", "%d.7.0")) {
+                final String versionStr = version.formatted(i);
+                assertThat(compiled.contains(versionStr)).as(versionStr).isEqualTo(vers.contains(versionStr));
+            }
+        }
+    }
+
+    @Test
+    void testCompileRejectsInvalidRange() {
+        final Vers vers = Vers.parseLenient("vers:npm/<1.0.0|<2.0.0");
+
+        assertThatExceptionOfType(VersException.class).isThrownBy(vers::compile);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class VersRegistryTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:maven/>=1.0|<2.0, vers:maven/>=1.0.0|>=1.1.0|<2.0.0, vers:maven/>=1.0|<2.0",
+        "vers:generic/>=1.0.0|<=2.0.0, vers:generic/>=1.0.0|2.0.0|<2.0.0, vers:generic/>=1.0.0|<=2.0.0",
+        "vers:generic/<1.0.0|>1.0.0, vers:generic/!=1.0.0, vers:generic/!=1.0.0",
+        "vers:generic/>=1|<1.5|>1.5|<2, vers:generic/>=1|!=1.5|<2, vers:generic/>=1|!=1.5|<2",
+        "vers:npm/*, vers:npm/*, vers:npm/*"
+    })
+    void shouldShareCanonicalRangeForEquivalentRanges(String versStrA, String versStrB, String expectedCanonical) {
+        final var registry = new VersRegistry();
+        final Vers versA = Vers.parseLenient(versStrA);
+        final Vers versB = Vers.parseLenient(versStrB);
+
+        final int id = registry.register(versA);
+        assertThat(registry.register(versB)).isEqualTo(id);
+        assertThat(registry.canonicalize(versB)).isSameAs(registry.get(id));
+        assertThat(registry.get(id)).hasToString(expectedCanonical);
+        assertThat(Vers.parse(registry.get(id).toString())).isEqualTo(registry.get(id));
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAssignSequentialIdsToDistinctRanges() {
+        final var registry = new VersRegistry();
+
+        assertThat(registry.register(Vers.parse("vers:npm/>=1.0.0|<2.0.0"))).isZero();
+        assertThat(registry.register(Vers.parse("vers:npm/>=1.0.0|<=2.0.0"))).isEqualTo(1);
+        assertThat(registry.register(Vers.parse("vers:maven/>=1.0.0|<2.0.0"))).isEqualTo(2);
+        assertThat(registry.register(Vers.parse("vers:npm/>=1.0.0|<2.0.0"))).isZero();
+        assertThat(registry.size()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldShareRangesContainingNoVersion() {
+        final var registry = new VersRegistry();
+        final Vers vers = Vers.parse("vers:generic/!=1.0.0|!=2.0.0");
+
+        assertThat(registry.canonicalize(vers)).isEqualTo(vers);
+        assertThat(registry.register(Vers.parse("vers:generic/!=3.0.0|!=4.0.0"))).isZero();
+    }
+
+    @Test
+    void shouldShareRangesContainingAllButMultipleVersions() {
+        final var registry = new VersRegistry();
+        final Vers vers = Vers.parseLenient("vers:generic/<1.0.0|>1.0.0|!=2.0.0");
+
+        assertThat(registry.canonicalize(vers)).isSameAs(vers);
+        assertThat(registry.register(Vers.parseLenient("vers:generic/<1.0.0|>1.0.0|<2.0.0|>2.0.0")))
+                .isZero();
+        assertThat(registry.register(Vers.parseLenient("vers:generic/<1.0.0|>1.0.0|!=3.0.0")))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowForUnknownId() {
+        final var registry = new VersRegistry();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> registry.get(0));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> registry.get(-1));
+    }
+}
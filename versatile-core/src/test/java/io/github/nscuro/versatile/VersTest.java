@@ -23,9 +23,12 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.version.NpmVersion;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -62,6 +65,25 @@ class VersTest {
                         });
     }
 
+    @Test
+    void testParseWithVersionFactory() {
+        final VersionFactory factory = VersionFactory.builder()
+                .withSchemeAlias("gradle", "maven")
+                .withVersionCache(10)
+                .build();
+
+        final Vers vers = Vers.parse("vers:gradle/>=1.0.0|<2.0.0", factory);
+        assertThat(vers.scheme()).isEqualTo("maven");
+        assertThat(vers).hasToString("vers:maven/>=1.0.0|<2.0.0");
+        assertThat(Vers.parseLenient("vers:gradle/<2.0.0|>=1.0.0", factory).constraints())
+                .extracting(Constraint::version)
+                .containsExactlyElementsOf(vers.constraints().stream().map(Constraint::version).toList());
+        assertThat(vers.contains("1.5.0", factory)).isTrue();
+        assertThat(vers.contains("2.0.0", factory)).isFalse();
+        assertThat(Vers.builder("gradle", factory).withConstraint(">=1.0.0").build())
+                .hasToString("vers:maven/>=1.0.0");
+    }
+
     @ParameterizedTest
     @CsvSource({
         "vers:npm/>=1.0.0| <2.0.0", // whitespace
@@ -82,6 +104,139 @@ class VersTest {
                 .hasMessageContaining(input);
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "'', BLANK_INPUT, 0",
+        "vers:npm/>=1.0.0| <2.0.0, CONTAINS_WHITESPACE, 17",
+        "nonsense, MISSING_URI_SCHEME_SEPARATOR, 8",
+        "foo:npm/>=1.0.0, INVALID_URI_SCHEME, 0",
+        "vers:npmnoslash, MISSING_VERSIONING_SCHEME_SEPARATOR, 15",
+        "vers:/>=1.0.0, BLANK_VERSIONING_SCHEME, 5",
+        "vers:npm/|>=1.0.0|<2.0.0, LEADING_PIPE, 9",
+        "vers:npm/>=1.0.0|<2.0.0|, TRAILING_PIPE, 23",
+        "vers:npm/>=1.0.0||<2.0.0, CONSECUTIVE_PIPES, 16",
+        "vers:npm/>=1.0.0|<, MISSING_VERSION, 18",
+        "vers:npm/>=1.0.0|<2.0.0%7, INVALID_PERCENT_ENCODING, 18",
+        "vers:npm/>=1.0.0|<foo, INVALID_VERSION, 18",
+        "vers:npm/>=2.0.0|<1.0.0, UNSORTED_CONSTRAINTS, 17",
+        "vers:npm/>=1.0.0|<=1.0.0, DUPLICATE_VERSION, 17",
+        "vers:npm/<1.0.0|<2.0.0, INVALID_COMPARATOR_SEQUENCE, 16",
+        "vers:npm/<1.0.0|<1.2.0|1.5.0|<2.0.0, INVALID_COMPARATOR_SEQUENCE, 29",
+    })
+    void testTryParseReportsErrorCodeAndOffset(String input, ParseResult.ErrorCode errorCode, int errorOffset) {
+        final ParseResult<Vers> result = Vers.tryParse(input);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.value()).isEmpty();
+        assertThat(result.errorCode()).isEqualTo(errorCode);
+        assertThat(result.errorOffset()).isEqualTo(errorOffset);
+        assertThat(result.errorMessage()).isNotBlank();
+    }
+
+    @Test
+    void testValidateReportsMisplacedEqualityBeforeBrokenAlternation() {
+        final var vers = Vers.parseLenient("vers:npm/<1.0.0|<1.2.0|1.5.0|<2.0.0");
+        assertThatThrownBy(vers::validate)
+                .isInstanceOf(VersException.class)
+                .hasMessageContaining("A = comparator must only be followed by a > or >= operator, but got: <");
+    }
+
+    @Test
+    void testTryParseFailureThrowsSameExceptionAsParse() {
+        assertThatThrownBy(() -> Vers.tryParse("vers:npm/>=2.0.0|<1.0.0").orElseThrow())
+                .isInstanceOf(VersException.class)
+                .hasMessage("""
+                        constraints must be sorted by version, but ">=2.0.0" \
+                        precedes "<1.0.0" in "vers:npm/>=2.0.0|<1.0.0"\
+                        """);
+        assertThatThrownBy(() -> Vers.tryParse("vers:npm/>=1.0.0|<foo").orElseThrow())
+                .isInstanceOf(InvalidVersionException.class)
+                .hasMessage("Version foo is invalid: Invalid according to SemVer");
+    }
+
+    @Test
+    void testTryParse() {
+        final ParseResult<Vers> result = Vers.tryParse("vers:npm/>=1.0.0|<2.0.0");
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.errorCode()).isNull();
+        assertThat(result.errorOffset()).isEqualTo(-1);
+        assertThat(result.errorMessage()).isNull();
+        assertThat(result.orElseThrow()).hasToString("vers:npm/>=1.0.0|<2.0.0");
+    }
+
+    @Test
+    void testTryParseLenient() {
+        assertThat(Vers.tryParseLenient("vers:npm/|<2.0.0|>=1.0.0|").value())
+                .map(Vers::toString)
+                .contains("vers:npm/>=1.0.0|<2.0.0");
+        assertThat(Vers.tryParseLenient("vers:npm/>=1.0.0||<2.0.0").errorCode())
+                .isEqualTo(ParseResult.ErrorCode.MISSING_VERSION);
+    }
+
+    @Test
+    void testParseLazy() {
+        final Vers vers = Vers.parseLazy("vers:npm/>=1.0.0|<2.0.0|!=2.5.0|>=3.0.0");
+        assertThat(vers).hasToString("vers:npm/>=1.0.0|<2.0.0|!=2.5.0|>=3.0.0");
+        assertThat(vers.constraints())
+                .extracting(Constraint::comparator)
+                .containsExactly(
+                        Comparator.GREATER_THAN_OR_EQUAL,
+                        Comparator.LESS_THAN,
+                        Comparator.NOT_EQUAL,
+                        Comparator.GREATER_THAN_OR_EQUAL);
+
+        final Vers eagerVers = Vers.parse(vers.toString());
+        for (final String version : List.of("0.9.0", "1.0.0", "1.5.0", "2.0.0", "2.5.0", "3.0.0", "4.0.0")) {
+            assertThat(vers.contains(version)).as(version).isEqualTo(eagerVers.contains(version));
+        }
+        assertThat(vers.simplify()).hasToString(eagerVers.simplify().toString());
+        assertThat(vers.constraints().getFirst().version()).isInstanceOf(NpmVersion.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:npm/|>=1.0.0|<2.0.0", // leading pipe
+        "vers:npm/>=1.0.0| <2.0.0", // whitespace
+        "vers:npm/<1.0.0|<2.0.0", // invalid comparator sequence
+        "vers:npm/>=1.0.0|<%zz", // invalid percent-encoding
+    })
+    void testParseLazyRejectsInvalidSyntax(String input) {
+        assertThatThrownBy(() -> Vers.parseLazy(input)).isInstanceOf(VersException.class);
+    }
+
+    @Test
+    void testParseLazyDefersVersionValidation() {
+        final Vers vers = Vers.parseLazy("vers:npm/>=1.0.0|<foo");
+        assertThatThrownBy(() -> vers.contains("1.0.0"))
+                .isInstanceOf(InvalidVersionException.class)
+                .hasMessage("Version foo is invalid: Invalid according to SemVer");
+    }
+
+    @Test
+    void testParseLazyDefersOrderValidation() {
+        final Vers vers = Vers.parseLazy("vers:npm/>=2.0.0|<1.0.0");
+        assertThatThrownBy(() -> vers.contains("1.0.0"))
+                .isInstanceOf(VersException.class)
+                .hasMessage("""
+                        constraints must be sorted by version, but ">=2.0.0" \
+                        precedes "<1.0.0" in "vers:npm/>=2.0.0|<1.0.0"\
+                        """);
+        assertThatThrownBy(vers::simplify).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> vers.overlapsWith(Vers.parse("vers:npm/>=1.0.0")))
+                .isInstanceOf(VersException.class);
+    }
+
+    @Test
+    void testParseLazyIsThreadSafe() {
+        final Vers vers = Vers.parseLazy("vers:maven/>=1.0.0|<2.0.0|>=3.0.0|<4.0.0");
+        final List<Boolean> results = IntStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> vers.contains("%d.5.0".formatted(i % 5)))
+                .toList();
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i)).isEqualTo(i % 5 == 1 || i % 5 == 3);
+        }
+    }
+
     @ParameterizedTest
     @CsvSource({
         "vers:npm/>=2.0.0|<1.0.0,vers:npm/<1.0.0|>=2.0.0", // unsorted -> sorted
@@ -194,6 +349,22 @@ class VersTest {
         assertThatNoException().isThrownBy(vers::validate);
     }
 
+    @Test
+    void testSimplifyLargeRange() {
+        final var before = new ArrayList<String>();
+        final var after = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            before.addAll(List.of(">=%d.0".formatted(i), ">=%d.1".formatted(i), "!=%d.2".formatted(i)));
+            before.addAll(List.of("<%d.3".formatted(i), "<%d.4".formatted(i)));
+            after.addAll(List.of(">=%d.0".formatted(i), "!=%d.2".formatted(i), "<%d.4".formatted(i)));
+        }
+
+        final Vers vers = Vers.parseLenient("vers:generic/" + String.join("|", before))
+                .simplify();
+        assertThat(vers).hasToString("vers:generic/" + String.join("|", after));
+        assertThatNoException().isThrownBy(vers::validate);
+    }
+
     private static Stream<Arguments> testSplitArguments() {
         return Stream.of(
                 arguments("vers:generic/*", List.of("vers:generic/*")),
@@ -247,6 +418,28 @@ class VersTest {
         }
     }
 
+    @Test
+    void testSplitIsCachedAndImmutable() {
+        final Vers vers = Vers.parse("vers:generic/>=1.0.0|<2.0.0|>=3.0.0");
+        final List<Vers> parts = vers.split();
+        assertThat(vers.split()).isSameAs(parts);
+        assertThatThrownBy(() -> parts.add(vers)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:generic/*, '(,)'",
+        "vers:generic/1.0.0|2.0.0, '[1.0.0,1.0.0], [2.0.0,2.0.0]'",
+        "vers:generic/>=1.0.0|!=1.5.0|<2.0.0, '[1.0.0,1.5.0), (1.5.0,2.0.0)'",
+        "vers:generic/<1.0.0|>=2.0.0, '(,1.0.0), [2.0.0,)'",
+        "vers:generic/!=1.0.0, '(,1.0.0), (1.0.0,)'"
+    })
+    void testIntervals(String versStr, String expected) {
+        final Vers vers = Vers.parse(versStr);
+        assertThat(vers.intervals()).hasToString("[" + expected + "]");
+        assertThat(vers.intervals()).isSameAs(vers.intervals());
+    }
+
     @Test
     void testSplitRejectsInvalidConstraintSequence() {
         final Vers vers = new Vers(
@@ -368,7 +561,14 @@ class VersTest {
         "'vers:generic/>1.2.3|<1.3.1', 'vers:generic/>1.2.9|<1.3.0', true",
         "'vers:generic/>1.2.3|<1.3.1', 'vers:generic/>1.2.9|<1.3.3', true",
         "'vers:generic/>1.2.3|<1.3.1|>1.7', 'vers:generic/>1.3.2|<1.3.4|<1.6.9', false",
-        "'vers:generic/>1.2.3|<1.3.1|>1.7', 'vers:generic/>1.3.2|<1.3.4|<1.8', true"
+        "'vers:generic/>1.2.3|<1.3.1|>1.7', 'vers:generic/>1.3.2|<1.3.4|<1.8', true",
+        "'vers:generic/!=1.0.0', 'vers:generic/>2.0.0', true",
+        "'vers:generic/!=1.0.0', 'vers:generic/1.0.0', false",
+        "'vers:generic/>1.0.0|<2.0.0', 'vers:generic/<=1.0.0', false",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/<=1.0.0', true",
+        "'vers:generic/>1.0.0|!=1.5.0|<2.0.0', 'vers:generic/1.5.0', false",
+        "'vers:generic/>1.0.0|!=1.5.0|<2.0.0', 'vers:generic/>=1.4.0|<=1.6.0', true",
+        "'vers:generic/<=1.0.0|>=3.0.0', 'vers:generic/>1.0.0|<3.0.0', false"
     })
     void testHasOverlap(String version1, String version2, boolean expected) {
         var v1 = Vers.parseLenient(version1);
@@ -446,4 +646,214 @@ class VersTest {
         var v = Vers.parse("vers:generic/*");
         assertThatThrownBy(v::invert).isInstanceOf(VersException.class);
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=1.5.0|<3.0.0', 'vers:generic/>=1.0.0|<3.0.0'",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=2.0.0|<3.0.0', 'vers:generic/>=1.0.0|<3.0.0'",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>2.0.0|<3.0.0', 'vers:generic/>=1.0.0|!=2.0.0|<3.0.0'",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=3.0.0', 'vers:generic/>=1.0.0|<2.0.0|>=3.0.0'",
+        "'vers:generic/<1.0.0', 'vers:generic/1.0.0', 'vers:generic/<=1.0.0'",
+        "'vers:generic/<1.0.0', 'vers:generic/>1.0.0', 'vers:generic/!=1.0.0'",
+        "'vers:generic/<1.0.0', 'vers:generic/>=1.0.0', 'vers:generic/*'",
+        "'vers:generic/1.0.0|3.0.0', 'vers:generic/2.0.0', 'vers:generic/1.0.0|2.0.0|3.0.0'",
+        "'vers:generic/!=1.0.0', 'vers:generic/<2.0.0', 'vers:generic/*'",
+        "'vers:generic/!=1.0.0', 'vers:generic/>=2.0.0|<3.0.0', 'vers:generic/!=1.0.0'",
+        "'vers:generic/<1.0.0|>1.0.0|<2.0.0', 'vers:generic/>2.0.0|<3.0.0', 'vers:generic/!=1.0.0|!=2.0.0|<3.0.0'",
+        "'vers:generic/*', 'vers:generic/1.0.0', 'vers:generic/*'"
+    })
+    void testUnion(String versA, String versB, String expected) {
+        var a = Vers.parseLenient(versA);
+        var b = Vers.parseLenient(versB);
+        assertThat(a.union(b).toString()).isEqualTo(expected);
+        assertThat(b.union(a).toString()).isEqualTo(expected);
+        assertRoundTrips(a.union(b));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=1.5.0|<3.0.0', 'vers:generic/>=1.5.0|<2.0.0'",
+        "'vers:generic/>=1.0.0|<=2.0.0', 'vers:generic/>=2.0.0|<3.0.0', 'vers:generic/2.0.0'",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=2.0.0|<3.0.0', ''",
+        "'vers:generic/>=1.0.0|<3.0.0', 'vers:generic/!=2.0.0', 'vers:generic/>=1.0.0|!=2.0.0|<3.0.0'",
+        "'vers:generic/1.0.0|2.0.0|3.0.0', 'vers:generic/>1.0.0', 'vers:generic/2.0.0|3.0.0'",
+        "'vers:generic/<1.0.0|>=2.0.0|<3.0.0|>=4.0.0', 'vers:generic/>=0.5.0|<4.5.0', 'vers:generic/>=0.5.0|<1.0.0|>=2.0.0|<3.0.0|>=4.0.0|<4.5.0'",
+        "'vers:generic/*', 'vers:generic/>1.0.0', 'vers:generic/>1.0.0'",
+        "'vers:generic/*', 'vers:generic/*', 'vers:generic/*'"
+    })
+    void testIntersect(String versA, String versB, String expected) {
+        var a = Vers.parseLenient(versA);
+        var b = Vers.parseLenient(versB);
+        assertThat(a.intersect(b).map(Vers::toString).orElse("")).isEqualTo(expected);
+        assertThat(b.intersect(a).map(Vers::toString).orElse("")).isEqualTo(expected);
+        a.intersect(b).ifPresent(VersTest::assertRoundTrips);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>=1.0.0|<3.0.0', 'vers:generic/2.0.0', 'vers:generic/>=1.0.0|!=2.0.0|<3.0.0'",
+        "'vers:generic/>=1.0.0|<3.0.0', 'vers:generic/>=2.0.0', 'vers:generic/>=1.0.0|<2.0.0'",
+        "'vers:generic/>=1.0.0|<3.0.0', 'vers:generic/>1.5.0|<2.0.0', 'vers:generic/>=1.0.0|<=1.5.0|>=2.0.0|<3.0.0'",
+        "'vers:generic/>=1.0.0|<3.0.0', 'vers:generic/*', ''",
+        "'vers:generic/*', 'vers:generic/1.0.0', 'vers:generic/!=1.0.0'",
+        "'vers:generic/*', 'vers:generic/1.0.0|>=2.0.0', 'vers:generic/!=1.0.0|<2.0.0'",
+        "'vers:generic/1.0.0|2.0.0', 'vers:generic/>=3.0.0', 'vers:generic/1.0.0|2.0.0'"
+    })
+    void testMinus(String versA, String versB, String expected) {
+        var a = Vers.parseLenient(versA);
+        var b = Vers.parseLenient(versB);
+        assertThat(a.minus(b).map(Vers::toString).orElse("")).isEqualTo(expected);
+        a.minus(b).ifPresent(VersTest::assertRoundTrips);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/1.2.3', 'vers:generic/!=1.2.3'",
+        "'vers:generic/!=1.2.3', 'vers:generic/1.2.3'",
+        "'vers:generic/>=1.2.0|<2.0.0', 'vers:generic/<1.2.0|>=2.0.0'",
+        "'vers:generic/<1.0.0|>1.0.0|!=2.0.0', 'vers:generic/1.0.0|2.0.0'",
+        "'vers:generic/1.0.0|>=2.0.0', 'vers:generic/!=1.0.0|<2.0.0'",
+        "'vers:generic/>=1.0.0|!=1.5.0|<2.5.0', 'vers:generic/<1.0.0|1.5.0|>=2.5.0'",
+        "'vers:generic/*', ''"
+    })
+    void testComplement(String version, String expected) {
+        var v = Vers.parseLenient(version);
+        assertThat(v.complement().map(Vers::toString).orElse("")).isEqualTo(expected);
+        v.complement().ifPresent(VersTest::assertRoundTrips);
+    }
+
+    @Test
+    void testSetOperationsRejectAllVersionsButMultipleSingleOnes() {
+        var points = Vers.parse("vers:generic/1.0.0|2.0.0");
+        var all = Vers.parse("vers:generic/*");
+        assertThatThrownBy(points::complement)
+                .isInstanceOf(VersException.class)
+                .hasMessage("all generic versions except 1.0.0, 2.0.0 cannot be expressed as a vers range");
+        assertThatThrownBy(() -> all.minus(points)).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> Vers.parse("vers:generic/!=1.0.0").intersect(Vers.parse("vers:generic/!=2.0.0")))
+                .isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> Vers.parse("vers:generic/<1.0.0|>1.0.0|<2.0.0")
+                        .union(Vers.parse("vers:generic/>2.0.0")))
+                .isInstanceOf(VersException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>=1.0.0|<2.0.0|3.0.0', 'vers:generic/>1.5.0|!=1.8.0|<=3.0.0'",
+        "'vers:generic/<1.0.0|>1.0.0|!=2.0.0', 'vers:generic/2.0.0|>=2.5.0'",
+        "'vers:generic/!=1.5.0', 'vers:generic/>=1.0.0|<2.0.0'",
+        "'vers:generic/*', 'vers:generic/1.0.0|>=2.0.0'"
+    })
+    void testSetOperationsAgreeWithContains(String versA, String versB) {
+        var a = Vers.parseLenient(versA);
+        var b = Vers.parseLenient(versB);
+        var union = a.union(b).validate();
+        var intersection = a.intersect(b);
+        var difference = a.minus(b);
+        var complement = a.complement();
+        assertRoundTrips(union);
+        intersection.ifPresent(VersTest::assertRoundTrips);
+        difference.ifPresent(VersTest::assertRoundTrips);
+        complement.ifPresent(VersTest::assertRoundTrips);
+
+        for (final String version :
+                List.of("0.5.0", "1.0.0", "1.2.0", "1.5.0", "1.8.0", "2.0.0", "2.2.0", "2.5.0", "3.0.0", "4.0.0")) {
+            final boolean inA = a.contains(version);
+            final boolean inB = b.contains(version);
+            assertThat(union.contains(version)).as("%s in union", version).isEqualTo(inA || inB);
+            assertThat(intersection.map(vers -> vers.contains(version)).orElse(false))
+                    .as("%s in intersection", version)
+                    .isEqualTo(inA && inB);
+            assertThat(difference.map(vers -> vers.contains(version)).orElse(false))
+                    .as("%s in difference", version)
+                    .isEqualTo(inA && !inB);
+            assertThat(complement.map(vers -> vers.contains(version)).orElse(false))
+                    .as("%s in complement", version)
+                    .isEqualTo(!inA);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "'vers:generic/>=1.2.0|<1.5.0', 'vers:generic/>=1.0.0|<2.0.0', true, false",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=1.0.0|<2.0.0', true, true",
+        "'vers:generic/>=1.0.0|<=2.0.0', 'vers:generic/>=1.0.0|<2.0.0', false, true",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=1.0.0|!=1.5.0|<2.0.0', false, true",
+        "'vers:generic/>=1.0.0|<1.5.0', 'vers:generic/>=1.0.0|!=1.5.0|<2.0.0', true, false",
+        "'vers:generic/>=1.0.0|<=1.5.0', 'vers:generic/>=1.0.0|!=1.5.0|<2.0.0', false, false",
+        "'vers:generic/1.0.0|3.0.0', 'vers:generic/<2.0.0|>=3.0.0', true, false",
+        "'vers:generic/1.0.0|2.0.0|3.0.0', 'vers:generic/<2.0.0|>=3.0.0', false, false",
+        "'vers:generic/>=1.0.0|<2.0.0', 'vers:generic/>=1.0.0|<2.0.0|>=3.0.0', true, false",
+        "'vers:generic/>=1.0.0|<2.0.0|>=3.0.0', 'vers:generic/*', true, false",
+        "'vers:generic/*', 'vers:generic/<1.0.0|>=1.0.0', true, true",
+        "'vers:generic/!=1.0.0', 'vers:generic/<1.0.0|>1.0.0', true, true",
+        "'vers:generic/!=1.0.0|!=2.0.0', 'vers:generic/1.0.0', true, false",
+        "'vers:generic/<1.0.0', 'vers:generic/>=2.0.0', false, false"
+    })
+    void testIsSubsetOf(String versA, String versB, boolean expectedSubset, boolean expectedSuperset) {
+        var a = Vers.parseLenient(versA);
+        var b = Vers.parseLenient(versB);
+        assertThat(a.isSubsetOf(b)).isEqualTo(expectedSubset);
+        assertThat(b.isSubsetOf(a)).isEqualTo(expectedSuperset);
+        assertThat(a.isEquivalentTo(b)).isEqualTo(expectedSubset && expectedSuperset);
+        assertThat(b.isEquivalentTo(a)).isEqualTo(expectedSubset && expectedSuperset);
+    }
+
+    @Test
+    void testSetOperationsRejectDifferentSchemes() {
+        var a = Vers.parse("vers:npm/>=1.0.0");
+        var b = Vers.parse("vers:maven/>=1.0.0");
+        assertThatThrownBy(() -> a.union(b)).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> a.intersect(b)).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> a.minus(b)).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> a.isSubsetOf(b)).isInstanceOf(VersException.class);
+        assertThatThrownBy(() -> a.isEquivalentTo(b)).isInstanceOf(VersException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:generic/>=1.0.0|<2.0.0, vers:generic/>=1.0.0|<2.0.0",
+        "vers:maven/>=1.0|<2.0, vers:maven/>=1.0.0|<2.0.0",
+        "vers:npm/1.2.3, vers:npm/=1.2.3",
+        "vers:pypi/!=1.0, vers:pypi/!=1.0.0",
+        "vers:deb/*, vers:deb/*"
+    })
+    void testEqualRangesHashIdentically(String versStrA, String versStrB) {
+        final Vers versA = Vers.parse(versStrA);
+        final Vers versB = Vers.parse(versStrB);
+        assertThat(versA).isEqualTo(versB).hasSameHashCodeAs(versB);
+        assertThat(versA.constraints()).isEqualTo(versB.constraints());
+        assertThat(new HashSet<>(List.of(versA, versB))).hasSize(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:generic/>=1.0.0|<2.0.0, vers:generic/>=1.0.0|<=2.0.0",
+        "vers:generic/>=1.0.0|<2.0.0, vers:generic/>=1.0.0|<2.0.1",
+        "vers:generic/1.0.0, vers:generic/!=1.0.0",
+        "vers:maven/1.0.0, vers:npm/1.0.0"
+    })
+    void testDifferentRangesAreNotEqual(String versStrA, String versStrB) {
+        assertThat(Vers.parse(versStrA)).isNotEqualTo(Vers.parse(versStrB));
+    }
+
+    @Test
+    void testLazyRangeEqualsEagerRange() {
+        final Vers eager = Vers.parse("vers:npm/>=1.0.0|<2.0.0");
+        final Vers lazy = Vers.parseLazy("vers:npm/>=1.0.0|<2.0.0");
+        assertThat(lazy).isEqualTo(eager).hasSameHashCodeAs(eager);
+    }
+
+    @Test
+    void testToStringIsCached() {
+        final Vers vers = Vers.parse("vers:NPM/>=1.0.0-beta+1|<2.0.0");
+        assertThat(vers).hasToString("vers:npm/>=1.0.0-beta+1|<2.0.0");
+        assertThat(vers.toString()).isSameAs(vers.toString());
+        assertThat(vers.constraints().getFirst().toString())
+                .isSameAs(vers.constraints().getFirst().toString());
+    }
+
+    private static void assertRoundTrips(final Vers vers) {
+        assertThat(Vers.parse(vers.toString())).as("re-parsed %s", vers).isEqualTo(vers);
+    }
 }
@@ -18,6 +18,7 @@
  */
 package io.github.nscuro.versatile;
 
+import static io.github.nscuro.versatile.VersUtils.releaseFromOsvEcosystem;
 import static io.github.nscuro.versatile.VersUtils.schemeFromGhsaEcosystem;
 import static io.github.nscuro.versatile.VersUtils.schemeFromOsvEcosystem;
 import static io.github.nscuro.versatile.VersUtils.versFromGhsaRange;
@@ -190,6 +191,26 @@ class VersUtilsTest {
         }
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "AlmaLinux:8, 8",
+        "Alpine:v3.18, v3.18",
+        "Debian:11, 11",
+        "Debian, ",
+        "Debian:, ",
+        "Rocky Linux:9, 9",
+        "Ubuntu:22.04:LTS, 22.04:LTS",
+        "npm, ",
+        "Maven:central, "
+    })
+    void testReleaseFromOsvEcosystem(final String ecosystem, final String expectedRelease) {
+        if (expectedRelease == null) {
+            assertThat(releaseFromOsvEcosystem(ecosystem)).isEmpty();
+        } else {
+            assertThat(releaseFromOsvEcosystem(ecosystem)).contains(expectedRelease);
+        }
+    }
+
     private static Stream<Arguments> testVersFromNvdRangeArguments() {
         return Stream.of(
                 arguments(null, "2.2.0", null, "2.2.13", "*", "vers:generic/>=2.2.0|<=2.2.13"),
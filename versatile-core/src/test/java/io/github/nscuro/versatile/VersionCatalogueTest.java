@@ -0,0 +1,114 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class VersionCatalogueTest {
+
+    private static final VersionCatalogue CATALOGUE = VersionCatalogue.of(
+            "maven", List.of("2.0.0", "1.0.0", "1.5.0", "1.0", "3.0.0-beta", "3.0.0", "0.9.0", "2.1.0", "1.1.0"));
+
+    @Test
+    void shouldSortAndDeduplicateVersions() {
+        assertThat(CATALOGUE.versions())
+                .map(Version::toString)
+                .containsExactly("0.9.0", "1.0.0", "1.1.0", "1.5.0", "2.0.0", "2.1.0", "3.0.0-beta", "3.0.0");
+        assertThat(CATALOGUE.size()).isEqualTo(8);
+        assertThat(CATALOGUE.get(3)).hasToString("1.5.0");
+        assertThat(CATALOGUE.ordinalOf(VersionFactory.forScheme("maven", "1.5"))).isEqualTo(3);
+        assertThat(CATALOGUE.ordinalOf(VersionFactory.forScheme("maven", "1.6"))).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "vers:maven/>=1.0.0|<2.0.0, 1.0.0 1.1.0 1.5.0, 1",
+        "vers:maven/>1.0.0|<=2.0.0, 1.1.0 1.5.0 2.0.0, 1",
+        "vers:maven/>=1.0.0|!=1.2.0|<2.0.0, 1.0.0 1.1.0 1.5.0, 1",
+        "vers:maven/>=1.0.0|!=1.1.0|<2.0.0, 1.0.0 1.5.0, 2",
+        "vers:maven/<1.0.0|>=3.0.0-beta, 0.9.0 3.0.0-beta 3.0.0, 2",
+        "vers:maven/1.1.0|2.1.0|4.0.0, 1.1.0 2.1.0, 2",
+        "vers:maven/*, 0.9.0 1.0.0 1.1.0 1.5.0 2.0.0 2.1.0 3.0.0-beta 3.0.0, 1",
+        "vers:maven/>=4.0.0, '', 0"
+    })
+    void shouldCompileRangeIntoOrdinalIntervals(String versStr, String expectedVersions, int expectedIntervalCount) {
+        final Vers vers = Vers.parse(versStr);
+        final VersionCatalogue.CompiledRange range = CATALOGUE.compile(vers);
+
+        final List<String> expected = expectedVersions.isEmpty()
+                ? List.of()
+                : Arrays.asList(expectedVersions.split(" "));
+        assertThat(range.versions()).map(Version::toString).containsExactlyElementsOf(expected);
+        assertThat(range.size()).isEqualTo(expected.size());
+        assertThat(range.intervalCount()).isEqualTo(expectedIntervalCount);
+
+        for (int ordinal = 0; ordinal < CATALOGUE.size(); ordinal++) {
+            final Version version = CATALOGUE.get(ordinal);
+            assertThat(range.contains(ordinal)).as("%s", version).isEqualTo(vers.contains(version.toString()));
+            assertThat(range.contains(version)).as("%s", version).isEqualTo(vers.contains(version.toString()));
+        }
+    }
+
+    @Test
+    void shouldReturnContiguousSliceForSingleInterval() {
+        final VersionCatalogue.CompiledRange range = CATALOGUE.compile(Vers.parse("vers:maven/>=1.0.0|<2.0.0"));
+        assertThat(range.startOrdinal(0)).isEqualTo(1);
+        assertThat(range.endOrdinal(0)).isEqualTo(4);
+        assertThat(range.versions()).isEqualTo(CATALOGUE.versions().subList(1, 4));
+    }
+
+    @Test
+    void shouldMatchVersionsMissingFromCatalogue() {
+        final VersionCatalogue.CompiledRange range = CATALOGUE.compile(Vers.parse("vers:maven/>=1.0.0|<2.0.0"));
+        assertThat(range.contains(VersionFactory.forScheme("maven", "1.2.0"))).isTrue();
+        assertThat(range.contains(VersionFactory.forScheme("maven", "2.2.0"))).isFalse();
+    }
+
+    @Test
+    void shouldCreateCatalogueFromVersions() {
+        final VersionCatalogue catalogue = VersionCatalogue.ofVersions(
+                "npm", List.of(VersionFactory.forScheme("npm", "2.0.0"), VersionFactory.forScheme("npm", "1.0.0")));
+        assertThat(catalogue.versions()).map(Version::toString).containsExactly("1.0.0", "2.0.0");
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> catalogue.versions().set(0, VersionFactory.forScheme("npm", "3.0.0")));
+    }
+
+    @Test
+    void shouldRejectVersionsOfDifferentScheme() {
+        final List<Version> versions =
+                List.of(VersionFactory.forScheme("npm", "1.0.0"), VersionFactory.forScheme("maven", "2.0.0"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> VersionCatalogue.ofVersions("npm", versions))
+                .withMessage("Versions must all be of scheme npm, but got 2.0.0 of scheme maven");
+    }
+
+    @Test
+    void shouldRejectRangeOfDifferentScheme() {
+        assertThatExceptionOfType(VersException.class)
+                .isThrownBy(() -> CATALOGUE.compile(Vers.parse("vers:npm/>=1.0.0")));
+    }
+}
@@ -19,11 +19,27 @@
 package io.github.nscuro.versatile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.spi.Version;
+import io.github.nscuro.versatile.spi.VersionParseResult;
+import io.github.nscuro.versatile.spi.VersionProvider;
 import io.github.nscuro.versatile.version.GenericVersion;
 import io.github.nscuro.versatile.version.GoVersion;
+import io.github.nscuro.versatile.version.MavenVersion;
+import java.io.InputStream;
+import java.lang.module.ModuleDescriptor;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class VersionFactoryTest {
 
@@ -40,4 +56,187 @@ class VersionFactoryTest {
         assertThat(version).isInstanceOf(GenericVersion.class);
         assertThat(version.scheme()).isEqualTo("foobar");
     }
+
+    @ParameterizedTest
+    @CsvSource({
+        "apk, ApkVersion",
+        "cargo, CargoVersion",
+        "composer, ComposerVersion",
+        "deb, DebianVersion",
+        "gem, GemVersion",
+        "generic, GenericVersion",
+        "golang, GoVersion",
+        "maven, MavenVersion",
+        "npm, NpmVersion",
+        "nuget, NugetVersion",
+        "pypi, PythonVersion",
+        "rpm, RpmVersion"
+    })
+    void shouldResolveBuiltinProviderForKnownScheme(final String scheme, final String expectedType) {
+        final Version version = VersionFactory.forScheme(scheme, "1.2.3");
+        assertThat(version.getClass().getSimpleName()).isEqualTo(expectedType);
+        assertThat(version.scheme()).isEqualTo(scheme);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "apk, 1.0-r01, 1.0-r1",
+        "cargo, 1, 1.0.0",
+        "composer, 1.0, 1.0.0.0",
+        "deb, 0:1.01, 1.1-0",
+        "gem, 1.0, 1.0.0",
+        "generic, 1.0, 1.0.0",
+        "golang, v1, v1.0.0",
+        "maven, 1.0, 1.0.0",
+        "npm, 1.0.0, v1.0.0+build",
+        "nuget, 1.0, 1.0.0.0",
+        "pypi, 1.0, 1.0.0",
+        "rpm, 1.01, 1.1"
+    })
+    void shouldHashEqualVersionsIdentically(final String scheme, final String versionStrA, final String versionStrB) {
+        final Version versionA = VersionFactory.forScheme(scheme, versionStrA);
+        final Version versionB = VersionFactory.forScheme(scheme, versionStrB);
+        assertThat(versionA).isEqualTo(versionB).hasSameHashCodeAs(versionB);
+        assertThat(new HashSet<>(List.of(versionA, versionB))).hasSize(1);
+    }
+
+    @Test
+    void shouldDeclareAllBuiltinProvidersInModuleDescriptor() throws Exception {
+        // Tests run on the class path, so the descriptor is read from the classes of this module directly.
+        final URI classesLocation =
+                VersionFactory.class.getProtectionDomain().getCodeSource().getLocation().toURI();
+        final ModuleDescriptor descriptor;
+        try (final InputStream inputStream =
+                Files.newInputStream(Path.of(classesLocation).resolve("module-info.class"))) {
+            descriptor = ModuleDescriptor.read(inputStream);
+        }
+
+        final List<String> declaredProviders = descriptor.provides().stream()
+                .filter(provides -> provides.service().equals(VersionProvider.class.getName()))
+                .flatMap(provides -> provides.providers().stream())
+                .toList();
+        assertThat(declaredProviders)
+                .containsExactlyInAnyOrderElementsOf(VersionFactory.builtinProviders().stream()
+                        .map(provider -> provider.getClass().getName())
+                        .toList());
+    }
+
+    @Test
+    void shouldOnlyUseConfiguredProviders() {
+        final VersionProvider goProvider = VersionFactory.builtinProviders().stream()
+                .filter(provider -> provider.supportsScheme("golang"))
+                .findFirst()
+                .orElseThrow();
+        final VersionFactory factory =
+                VersionFactory.builder().withProvider(goProvider).build();
+
+        assertThat(factory.parse("golang", "v1.2.4")).isInstanceOf(GoVersion.class);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> factory.parse("maven", "1.2.4"));
+    }
+
+    @Test
+    void shouldWarmUpOnlySchemesWithProvider() {
+        final VersionProvider npmProvider = VersionFactory.builtinProviders().stream()
+                .filter(provider -> provider.supportsScheme("npm"))
+                .findFirst()
+                .orElseThrow();
+        final VersionFactory factory = VersionFactory.builder()
+                .withProvider(npmProvider)
+                .withSchemeAlias("node", "npm")
+                .withEagerWarmUp()
+                .build();
+
+        assertThat(factory.parse("npm", "1.2.3").scheme()).isEqualTo("npm");
+        assertThat(factory.parse("node", "1.2.3").scheme()).isEqualTo("npm");
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> factory.parse("maven", "1.2.3"));
+    }
+
+    @Test
+    void shouldResolveSchemeAliases() {
+        final VersionFactory factory = VersionFactory.builder()
+                .withSchemeAlias("gradle", "maven")
+                .withSchemeAlias("sbt", "gradle")
+                .build();
+
+        final Version version = factory.parse("sbt", "1.2.4");
+        assertThat(version).isInstanceOf(MavenVersion.class);
+        assertThat(version.scheme()).isEqualTo("maven");
+        assertThat(factory.canonicalScheme("gradle")).isEqualTo("maven");
+        assertThat(factory.canonicalScheme("npm")).isEqualTo("npm");
+    }
+
+    @Test
+    void shouldRejectCyclicSchemeAliases() {
+        final VersionFactory.Builder builder =
+                VersionFactory.builder().withSchemeAlias("foo", "bar").withSchemeAlias("bar", "foo");
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(builder::build);
+    }
+
+    @Test
+    void shouldInternVersionsWhenCacheIsEnabled() {
+        final VersionFactory factory =
+                VersionFactory.builder().withVersionCache(2).build();
+
+        final Version version = factory.parse("npm", "1.2.3");
+        assertThat(factory.parse("npm", "1.2.3")).isSameAs(version);
+        assertThat(factory.cacheSize()).isEqualTo(1);
+
+        final Version otherVersion = factory.parse("npm", "1.2.4");
+        factory.parse("npm", "1.2.5");
+        assertThat(factory.cacheSize()).isEqualTo(2);
+        assertThat(factory.parse("npm", "1.2.3")).isSameAs(version);
+        assertThat(factory.parse("npm", "1.2.4")).isNotSameAs(otherVersion);
+
+        factory.clearCache();
+        assertThat(factory.cacheSize()).isZero();
+    }
+
+    @Test
+    void shouldNotInternVersionsByDefault() {
+        final VersionFactory factory = VersionFactory.builder().withEagerWarmUp().build();
+
+        assertThat(factory.parse("npm", "1.2.3")).isNotSameAs(factory.parse("npm", "1.2.3"));
+        assertThat(factory.cacheSize()).isZero();
+    }
+
+    @Test
+    void shouldReportInvalidVersionWithoutThrowing() {
+        final VersionParseResult result = VersionFactory.tryForScheme("cargo", "1.02.3");
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.version()).isEmpty();
+        assertThat(result.reason()).isEqualTo("Leading zero in numeric component: 02");
+        assertThatExceptionOfType(InvalidVersionException.class)
+                .isThrownBy(result::orElseThrow)
+                .withMessage("Version 1.02.3 is invalid: Leading zero in numeric component: 02");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"v", "v1.", "v1.0.", "v1.2x3"})
+    void shouldReportTruncatedGoVersionAsInvalid(final String versionStr) {
+        final VersionParseResult result = VersionFactory.tryForScheme("golang", versionStr);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.reason()).isNotNull();
+    }
+
+    @Test
+    void shouldReturnValidVersionFromTryParse() {
+        final VersionFactory factory =
+                VersionFactory.builder().withVersionCache(10).build();
+
+        final VersionParseResult result = factory.tryParse("cargo", "1.2.3");
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.reason()).isNull();
+        assertThat(result.orElseThrow()).isSameAs(factory.parse("cargo", "1.2.3"));
+        assertThat(factory.tryParse("cargo", "1.02.3").isSuccess()).isFalse();
+        assertThat(factory.cacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowInvalidVersionExceptionWithStackTrace() {
+        assertThatExceptionOfType(InvalidVersionException.class)
+                .isThrownBy(() -> VersionFactory.forScheme("cargo", "1.02.3"))
+                .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty())
+                .withMessage("Version 1.02.3 is invalid: Leading zero in numeric component: 02");
+    }
 }
@@ -27,7 +27,10 @@ abstract class AbstractVersionTest {
 
     enum ComparisonExpectation {
         IS_LOWER_THAN((x, y) -> assertThat(x).isLessThan(y)),
-        IS_EQUAL_TO((x, y) -> assertThat(x).isEqualByComparingTo(y)),
+        IS_EQUAL_TO((x, y) -> assertThat(x)
+                .isEqualByComparingTo(y)
+                .isEqualTo(y)
+                .hasSameHashCodeAs(y)),
         IS_HIGHER_THAN((x, y) -> assertThat(x).isGreaterThan(y));
 
         private final BiConsumer<Version, Version> evaluator;
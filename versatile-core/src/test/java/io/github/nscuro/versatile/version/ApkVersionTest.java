@@ -37,6 +37,7 @@ class ApkVersionTest extends AbstractVersionTest {
                 "1.9, IS_LOWER_THAN, 1.10",
                 // Real Alpine package versions
                 "5.0.0-r0, IS_EQUAL_TO, 5.0.0-r0",
+                "5.0.0-r01, IS_EQUAL_TO, 5.0.0-r1",
                 "5.0.0-r0, IS_LOWER_THAN, 5.0.0-r1",
                 "5.0.0-r0, IS_LOWER_THAN, 5.0.1-r0",
                 "4.3.46-r5, IS_LOWER_THAN, 5.0.0-r0",
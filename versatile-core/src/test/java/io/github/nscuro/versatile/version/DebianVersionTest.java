@@ -28,6 +28,8 @@ class DebianVersionTest extends AbstractVersionTest {
             value = {
                 "0, IS_LOWER_THAN, 1",
                 "1, IS_EQUAL_TO, 1",
+                "0:1.01-0, IS_EQUAL_TO, 1.1",
+                "1.0-1, IS_EQUAL_TO, 1.0-01",
                 "114.0.5735.106-1~deb11u1, IS_LOWER_THAN, 114.0.5735.133-1~deb12u1",
                 "114.0.5735.133-1, IS_HIGHER_THAN, 114.0.5735.133-1~deb12u1"
             })
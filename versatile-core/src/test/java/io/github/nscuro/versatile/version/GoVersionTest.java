@@ -19,11 +19,14 @@
 package io.github.nscuro.versatile.version;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.github.nscuro.versatile.spi.InvalidVersionException;
 import io.github.nscuro.versatile.version.AbstractVersionTest.ComparisonExpectation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class GoVersionTest {
 
@@ -116,4 +119,10 @@ class GoVersionTest {
     void testCompareTo(final String versionA, final ComparisonExpectation expectation, final String versionB) {
         expectation.evaluate(new GoVersion(versionA), new GoVersion(versionB));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "v", "v1.", "v1.0.", "1.", "v1.2x3", "v1.2.3-", "v1.2.3+", "va.b.c"})
+    void testFailingVersions(final String version) {
+        assertThatThrownBy(() -> new GoVersion(version)).isInstanceOf(InvalidVersionException.class);
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.version.AbstractVersionTest.ComparisonExpectation;
+import java.util.HashSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class NpmVersionTest {
+
+    @ParameterizedTest
+    @CsvSource(
+            value = {
+                "1.0.0, IS_EQUAL_TO, 1.0.0",
+                "v1.0.0, IS_EQUAL_TO, 1.0.0",
+                "1.0.0+build1, IS_EQUAL_TO, 1.0.0+build2",
+                "1.0.0-ALPHA.1, IS_EQUAL_TO, 1.0.0-alpha.01",
+                "1000.0.0, IS_EQUAL_TO, 1000.0.0",
+                "999.0.0, IS_LOWER_THAN, 1000.0.0",
+                "1.0.0-alpha, IS_LOWER_THAN, 1.0.0",
+                "1.0.0-alpha.2, IS_LOWER_THAN, 1.0.0-alpha.10",
+                "1.2.3, IS_HIGHER_THAN, 1.2.2",
+                "1, IS_EQUAL_TO, 1.0.0",
+                "1.2, IS_LOWER_THAN, 1.2.5",
+                "1, IS_HIGHER_THAN, 1.0.0-alpha",
+                "1.0.0-1, IS_LOWER_THAN, 1.0.0-a",
+                "1.0.0-alpha, IS_LOWER_THAN, 1.0.0-alpha.1",
+                "0, IS_HIGHER_THAN, 00-00~1"
+            })
+    void testCompareTo(final String versionA, final ComparisonExpectation expectation, final String versionB) {
+        expectation.evaluate(new NpmVersion(versionA), new NpmVersion(versionB));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1.0.0, 1.0.1", "1.0.0, 1.0.0-alpha", "1.0.0-alpha, 1.0.0-beta", "0, 00-00~1"})
+    void testNotEqual(final String versionA, final String versionB) {
+        assertThat(new NpmVersion(versionA)).isNotEqualTo(new NpmVersion(versionB));
+    }
+
+    @Test
+    void testHashSetDeduplication() {
+        final var versions = new HashSet<NpmVersion>();
+        versions.add(new NpmVersion("1000.0.0"));
+        versions.add(new NpmVersion("1000.0.0+build"));
+        versions.add(new NpmVersion("v1000.0.0"));
+
+        assertThat(versions).containsExactly(new NpmVersion("1000.0.0"));
+    }
+}
@@ -38,6 +38,7 @@ class PythonVersionTest extends AbstractVersionTest {
                 "1.0, IS_EQUAL_TO, 1.0",
                 "2.0, IS_HIGHER_THAN, 1.0",
                 "1.0.0, IS_EQUAL_TO, 1.0",
+                "1.0+ubuntu.01, IS_EQUAL_TO, 1.0.0+Ubuntu-1",
                 "1.2.3, IS_LOWER_THAN, 1.2.4",
                 "1.2.3, IS_LOWER_THAN, 1.3.0",
                 "1.2.3, IS_LOWER_THAN, 2.0.0",
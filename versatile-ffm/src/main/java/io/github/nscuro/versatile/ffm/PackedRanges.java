@@ -0,0 +1,266 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.ffm;
+
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.Interval;
+import io.github.nscuro.versatile.Vers;
+import io.github.nscuro.versatile.VersException;
+import io.github.nscuro.versatile.spi.Version;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A set of {@link Vers} ranges of the same scheme, stored off-heap as runs of order-preserving integer keys.
+ * <p>
+ * Keys are assigned based on the distinct endpoints of all ranges. For {@code m} endpoints, the endpoint
+ * at position {@code i} has key {@code 2i + 1}, and the versions between two endpoints share the even key
+ * in between. Every version thus maps to a key, and every interval to a contiguous run of keys, such that
+ * checking whether a range contains a version is a binary search over integers in native memory.
+ * <p>
+ * Only the endpoints are kept on the heap. All other data lives in segments allocated from the {@link Arena}
+ * passed to {@link #pack(String, List, Arena)}, and is thus only accessible as long as that arena is alive.
+ *
+ * @since 0.24.0
+ */
+public final class PackedRanges {
+
+    private final String scheme;
+    private final Version[] endpoints;
+    private final int rangeCount;
+
+    /**
+     * Index of the first run of every range, followed by the total number of runs.
+     */
+    private final MemorySegment offsets;
+
+    /**
+     * Runs as pairs of inclusive start key and exclusive end key.
+     */
+    private final MemorySegment runs;
+
+    private PackedRanges(
+            String scheme, Version[] endpoints, int rangeCount, MemorySegment offsets, MemorySegment runs) {
+        this.scheme = scheme;
+        this.endpoints = endpoints;
+        this.rangeCount = rangeCount;
+        this.offsets = offsets;
+        this.runs = runs;
+    }
+
+    /**
+     * @param scheme The scheme of all ranges
+     * @param ranges The ranges to pack
+     * @param arena  The {@link Arena} to allocate native memory from
+     * @return The packed ranges, indexed in the order of {@code ranges}
+     * @throws IllegalArgumentException When any range is not of {@code scheme}
+     * @throws VersException            When any range is invalid
+     */
+    public static PackedRanges pack(String scheme, List<Vers> ranges, Arena arena) {
+        requireNonNull(scheme, "scheme must not be null");
+        requireNonNull(ranges, "ranges must not be null");
+        requireNonNull(arena, "arena must not be null");
+
+        final var intervalsOfRanges = new ArrayList<List<Interval>>(ranges.size());
+        final var distinctEndpoints = new TreeSet<Version>();
+        int intervalCount = 0;
+        for (final Vers vers : ranges) {
+            if (!scheme.equals(vers.scheme())) {
+                throw new IllegalArgumentException(
+                        "Expected range of scheme %s, but got %s".formatted(scheme, vers.scheme()));
+            }
+
+            final List<Interval> intervals = vers.intervals();
+            for (final Interval interval : intervals) {
+                if (interval.lower() != null) {
+                    distinctEndpoints.add(interval.lower());
+                }
+                if (interval.upper() != null) {
+                    distinctEndpoints.add(interval.upper());
+                }
+            }
+
+            intervalsOfRanges.add(intervals);
+            intervalCount += intervals.size();
+        }
+
+        final Version[] endpoints = distinctEndpoints.toArray(new Version[0]);
+        final MemorySegment offsets = allocateInts(arena, ranges.size() + 1L);
+        final MemorySegment runs = allocateInts(arena, 2L * intervalCount);
+
+        // Intervals of a range are sorted and disjoint, so their runs are too.
+        int runIndex = 0;
+        for (int i = 0; i < intervalsOfRanges.size(); i++) {
+            offsets.setAtIndex(ValueLayout.JAVA_INT, i, runIndex);
+            for (final Interval interval : intervalsOfRanges.get(i)) {
+                runs.setAtIndex(ValueLayout.JAVA_INT, 2L * runIndex, startKey(endpoints, interval));
+                runs.setAtIndex(ValueLayout.JAVA_INT, 2L * runIndex + 1, endKey(endpoints, interval));
+                runIndex++;
+            }
+        }
+        offsets.setAtIndex(ValueLayout.JAVA_INT, ranges.size(), runIndex);
+
+        return new PackedRanges(scheme, endpoints, ranges.size(), offsets, runs);
+    }
+
+    public String scheme() {
+        return scheme;
+    }
+
+    /**
+     * @return The number of packed ranges
+     */
+    public int size() {
+        return rangeCount;
+    }
+
+    /**
+     * @return The number of bytes of native memory occupied
+     */
+    public long byteSize() {
+        return offsets.byteSize() + runs.byteSize();
+    }
+
+    /**
+     * @param version The version to get the key for
+     * @return The order-preserving key of {@code version}
+     */
+    public int keyOf(Version version) {
+        requireNonNull(version, "version must not be null");
+
+        final int index = Arrays.binarySearch(endpoints, version);
+        return index >= 0 ? 2 * index + 1 : 2 * (-index - 1);
+    }
+
+    /**
+     * @param rangeIndex The index of the range
+     * @param key        The key of a version, as returned by {@link #keyOf(Version)}
+     * @return {@code true} when the range contains the version of {@code key}
+     */
+    public boolean contains(int rangeIndex, int key) {
+        final int fromRun = runOffset(rangeIndex);
+        final int toRun = runOffset(rangeIndex + 1);
+
+        // Find the last run starting at or before the key.
+        int low = fromRun;
+        int high = toRun - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (runStart(mid) <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return high >= fromRun && key < runEnd(high);
+    }
+
+    /**
+     * @param rangeIndex The index of the range
+     * @param version    The version to check
+     * @return {@code true} when the range contains {@code version}
+     */
+    public boolean contains(int rangeIndex, Version version) {
+        return contains(rangeIndex, keyOf(version));
+    }
+
+    /**
+     * @param rangeIndex The index of the range
+     * @return The number of runs of keys, i.e. intervals, of the range
+     */
+    public int runCount(int rangeIndex) {
+        return runOffset(rangeIndex + 1) - runOffset(rangeIndex);
+    }
+
+    /**
+     * @param rangeIndex The index of the range
+     * @param run        The index of the run within the range
+     * @return The first key of the run
+     */
+    public int runStart(int rangeIndex, int run) {
+        return runStart(runOffset(rangeIndex) + checkRun(rangeIndex, run));
+    }
+
+    /**
+     * @param rangeIndex The index of the range
+     * @param run        The index of the run within the range
+     * @return The key following the last key of the run
+     */
+    public int runEnd(int rangeIndex, int run) {
+        return runEnd(runOffset(rangeIndex) + checkRun(rangeIndex, run));
+    }
+
+    private int checkRun(int rangeIndex, int run) {
+        if (run < 0 || run >= runCount(rangeIndex)) {
+            throw new IndexOutOfBoundsException("Run %d is out of bounds for range %d with %d runs"
+                    .formatted(run, rangeIndex, runCount(rangeIndex)));
+        }
+
+        return run;
+    }
+
+    private int runOffset(int rangeIndex) {
+        if (rangeIndex < 0 || rangeIndex > rangeCount) {
+            throw new IndexOutOfBoundsException(
+                    "Range %d is out of bounds for %d ranges".formatted(rangeIndex, rangeCount));
+        }
+
+        return offsets.getAtIndex(ValueLayout.JAVA_INT, rangeIndex);
+    }
+
+    private int runStart(int runIndex) {
+        return runs.getAtIndex(ValueLayout.JAVA_INT, 2L * runIndex);
+    }
+
+    private int runEnd(int runIndex) {
+        return runs.getAtIndex(ValueLayout.JAVA_INT, 2L * runIndex + 1);
+    }
+
+    private static int startKey(Version[] endpoints, Interval interval) {
+        final Version lower = interval.lower();
+        if (lower == null) {
+            return 0;
+        }
+
+        final int key = 2 * Arrays.binarySearch(endpoints, lower) + 1;
+        return interval.lowerInclusive() ? key : key + 1;
+    }
+
+    private static int endKey(Version[] endpoints, Interval interval) {
+        final Version upper = interval.upper();
+        if (upper == null) {
+            return 2 * endpoints.length + 1;
+        }
+
+        final int key = 2 * Arrays.binarySearch(endpoints, upper) + 1;
+        return interval.upperInclusive() ? key + 1 : key;
+    }
+
+    static MemorySegment allocateInts(Arena arena, long count) {
+        return arena.allocate(
+                Math.max(1, count) * ValueLayout.JAVA_INT.byteSize(), ValueLayout.JAVA_INT.byteAlignment());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.ffm;
+
+import static io.github.nscuro.versatile.ffm.PackedRanges.allocateInts;
+import static java.util.Objects.requireNonNull;
+
+import io.github.nscuro.versatile.spi.Version;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A list of versions, e.g. of the components of an inventory, stored off-heap as the keys
+ * that a {@link PackedRanges} assigns to them.
+ * <p>
+ * Keys are stored in ascending order, next to the index of their version in the original list.
+ * Finding the versions contained in a packed range thus takes a binary search per run of the range,
+ * without materializing any {@link Version}.
+ *
+ * @since 0.24.0
+ */
+public final class PackedVersionArray {
+
+    private final PackedRanges ranges;
+    private final int size;
+
+    /**
+     * Sorted keys of all versions.
+     */
+    private final MemorySegment keys;
+
+    /**
+     * Index of the version of each key in the original list.
+     */
+    private final MemorySegment indices;
+
+    private PackedVersionArray(PackedRanges ranges, int size, MemorySegment keys, MemorySegment indices) {
+        this.ranges = ranges;
+        this.size = size;
+        this.keys = keys;
+        this.indices = indices;
+    }
+
+    /**
+     * @param ranges   The {@link PackedRanges} to assign keys with
+     * @param versions The versions to pack, all of the same scheme as {@code ranges}
+     * @param arena    The {@link Arena} to allocate native memory from
+     * @return The packed versions
+     */
+    public static PackedVersionArray pack(PackedRanges ranges, List<? extends Version> versions, Arena arena) {
+        requireNonNull(ranges, "ranges must not be null");
+        requireNonNull(versions, "versions must not be null");
+        requireNonNull(arena, "arena must not be null");
+
+        // Keys are non-negative, so packing them into the upper half of a long
+        // sorts by key first, and by index second.
+        final long[] keyedIndices = new long[versions.size()];
+        for (int i = 0; i < keyedIndices.length; i++) {
+            keyedIndices[i] = ((long) ranges.keyOf(versions.get(i)) << 32) | i;
+        }
+        Arrays.sort(keyedIndices);
+
+        final MemorySegment keys = allocateInts(arena, keyedIndices.length);
+        final MemorySegment indices = allocateInts(arena, keyedIndices.length);
+        for (int i = 0; i < keyedIndices.length; i++) {
+            keys.setAtIndex(ValueLayout.JAVA_INT, i, (int) (keyedIndices[i] >>> 32));
+            indices.setAtIndex(ValueLayout.JAVA_INT, i, (int) keyedIndices[i]);
+        }
+
+        return new PackedVersionArray(ranges, keyedIndices.length, keys, indices);
+    }
+
+    /**
+     * @return The number of packed versions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of bytes of native memory occupied
+     */
+    public long byteSize() {
+        return keys.byteSize() + indices.byteSize();
+    }
+
+    /**
+     * @param rangeIndex The index of a range of the {@link PackedRanges} this array was packed with
+     * @return Indices of the versions contained in the range, in ascending order of the versions
+     */
+    public IntStream indicesIn(int rangeIndex) {
+        final var builder = IntStream.builder();
+        for (int run = 0; run < ranges.runCount(rangeIndex); run++) {
+            final int end = firstKeyAtLeast(ranges.runEnd(rangeIndex, run));
+            for (int i = firstKeyAtLeast(ranges.runStart(rangeIndex, run)); i < end; i++) {
+                builder.add(indices.getAtIndex(ValueLayout.JAVA_INT, i));
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @param rangeIndex The index of a range of the {@link PackedRanges} this array was packed with
+     * @return The number of versions contained in the range
+     */
+    public int countIn(int rangeIndex) {
+        int count = 0;
+        for (int run = 0; run < ranges.runCount(rangeIndex); run++) {
+            count += firstKeyAtLeast(ranges.runEnd(rangeIndex, run))
+                    - firstKeyAtLeast(ranges.runStart(rangeIndex, run));
+        }
+
+        return count;
+    }
+
+    private int firstKeyAtLeast(int key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (keys.getAtIndex(ValueLayout.JAVA_INT, mid) < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+}
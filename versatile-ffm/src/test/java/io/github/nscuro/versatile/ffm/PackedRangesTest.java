@@ -0,0 +1,100 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.ffm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import io.github.nscuro.versatile.Vers;
+import io.github.nscuro.versatile.VersionFactory;
+import io.github.nscuro.versatile.spi.Version;
+import java.lang.foreign.Arena;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class PackedRangesTest {
+
+    private static final List<Vers> RANGES = List.of(
+            Vers.parse("vers:npm/>=1.0.0|<2.0.0"),
+            Vers.parse("vers:npm/<1.2.0|>1.5.0|<=1.7.0|>=3.0.0"),
+            Vers.parse("vers:npm/!=1.5.0"),
+            Vers.parse("vers:npm/*"),
+            Vers.parse("vers:npm/1.5.0"));
+
+    @Test
+    void testContainsAgreesWithVers() {
+        final var random = new Random(42);
+        final var versions = new ArrayList<Version>();
+        for (int i = 0; i < 500; i++) {
+            versions.add(VersionFactory.forScheme(
+                    "npm", "%d.%d.%d".formatted(random.nextInt(4), random.nextInt(9), random.nextInt(3))));
+        }
+
+        try (final Arena arena = Arena.ofConfined()) {
+            final PackedRanges ranges = PackedRanges.pack("npm", RANGES, arena);
+            final PackedVersionArray packedVersions = PackedVersionArray.pack(ranges, versions, arena);
+            assertThat(ranges.size()).isEqualTo(RANGES.size());
+            assertThat(packedVersions.size()).isEqualTo(versions.size());
+
+            for (int rangeIndex = 0; rangeIndex < RANGES.size(); rangeIndex++) {
+                final var expectedIndices = new ArrayList<Integer>();
+                for (int i = 0; i < versions.size(); i++) {
+                    final boolean expected = RANGES.get(rangeIndex).contains(versions.get(i).toString());
+                    assertThat(ranges.contains(rangeIndex, versions.get(i))).isEqualTo(expected);
+                    if (expected) {
+                        expectedIndices.add(i);
+                    }
+                }
+
+                assertThat(packedVersions.indicesIn(rangeIndex).boxed().toList())
+                        .containsExactlyInAnyOrderElementsOf(expectedIndices);
+                assertThat(packedVersions.countIn(rangeIndex)).isEqualTo(expectedIndices.size());
+            }
+        }
+    }
+
+    @Test
+    void testKeyOf() {
+        try (final Arena arena = Arena.ofConfined()) {
+            final PackedRanges ranges = PackedRanges.pack("npm", List.of(Vers.parse("vers:npm/>=1.0.0|<2.0.0")), arena);
+
+            assertThat(ranges.keyOf(VersionFactory.forScheme("npm", "0.9.0"))).isZero();
+            assertThat(ranges.keyOf(VersionFactory.forScheme("npm", "1.0.0"))).isEqualTo(1);
+            assertThat(ranges.keyOf(VersionFactory.forScheme("npm", "1.5.0"))).isEqualTo(2);
+            assertThat(ranges.keyOf(VersionFactory.forScheme("npm", "2.0.0"))).isEqualTo(3);
+            assertThat(ranges.keyOf(VersionFactory.forScheme("npm", "3.0.0"))).isEqualTo(4);
+            assertThat(ranges.runCount(0)).isEqualTo(1);
+            assertThat(ranges.runStart(0, 0)).isEqualTo(1);
+            assertThat(ranges.runEnd(0, 0)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testPackRejectsMixedSchemes() {
+        try (final Arena arena = Arena.ofConfined()) {
+            final List<Vers> ranges = List.of(Vers.parse("vers:npm/1.0.0"), Vers.parse("vers:maven/1.0.0"));
+
+            assertThatExceptionOfType(IllegalArgumentException.class)
+                    .isThrownBy(() -> PackedRanges.pack("npm", ranges, arena))
+                    .withMessage("Expected range of scheme npm, but got maven");
+        }
+    }
+}
@@ -22,11 +22,38 @@ import org.jspecify.annotations.Nullable;
 
 public class InvalidVersionException extends IllegalArgumentException {
 
+    private final String version;
+    private final String reason;
+
     public InvalidVersionException(String version, String message) {
         this(version, message, null);
     }
 
     public InvalidVersionException(String version, String message, @Nullable Throwable cause) {
-        super("Version %s is invalid: %s".formatted(version, message), cause);
+        // NB: The message is assembled lazily in getMessage, since many callers never look at it.
+        super(null, cause);
+        this.version = version;
+        this.reason = message;
+    }
+
+    /**
+     * @return The version string that was found to be invalid
+     * @since 0.24.0
+     */
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @return The reason why the version is invalid
+     * @since 0.24.0
+     */
+    public String reason() {
+        return reason;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Version %s is invalid: %s".formatted(version, reason);
     }
 }
@@ -0,0 +1,49 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.spi;
+
+import java.util.BitSet;
+
+/**
+ * Matches a packed version against flat arrays of half-open intervals {@code [starts[i], ends[i])}.
+ * <p>
+ * Implementations are discovered via {@link java.util.ServiceLoader}, and allow accelerated
+ * matching to be provided by optional modules. The first implementation that reports
+ * to be {@linkplain #isSupported() supported} is used.
+ *
+ * @since 0.24.0
+ */
+public interface PackedIntervalKernel {
+
+    /**
+     * @return {@code true} when the kernel can be used on the current platform, otherwise {@code false}
+     */
+    boolean isSupported();
+
+    /**
+     * Sets the owner of every interval {@code [starts[i], ends[i])} that contains {@code key}.
+     *
+     * @param key    The packed version to match
+     * @param starts Inclusive lower bounds of all intervals
+     * @param ends   Exclusive upper bounds of all intervals
+     * @param owners Indices of the ranges the intervals belong to
+     * @param result The {@link BitSet} to set the owners of all matching intervals in
+     */
+    void match(long key, long[] starts, long[] ends, int[] owners, BitSet result);
+}
@@ -38,6 +38,11 @@ public abstract class Version implements Comparable<Version> {
         return scheme;
     }
 
+    /**
+     * The default implementation hashes the raw version string. Implementations whose {@link #compareTo(Object)}
+     * considers differently spelled versions equal (e.g. {@code 1.0} and {@code 1.0.0}) must override this method
+     * to hash a canonical form instead, such that it remains consistent with {@link #equals(Object)}.
+     */
     @Override
     public int hashCode() {
         return Objects.hash(scheme, versionStr);
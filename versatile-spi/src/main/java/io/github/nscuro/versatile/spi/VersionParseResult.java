@@ -0,0 +1,117 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of an attempt to parse a {@link Version}, which is either a {@link Version}
+ * or the reason why the version string is invalid.
+ * <p>
+ * Unlike {@link VersionProvider#getVersion(String, String)}, producing a failed result does not
+ * require an exception to be constructed, which makes it suitable for inputs that are expected
+ * to be invalid frequently.
+ *
+ * @see VersionProvider#tryGetVersion(String, String)
+ * @since 0.24.0
+ */
+public final class VersionParseResult {
+
+    private final @Nullable String versionStr;
+    private final @Nullable Version version;
+    private final @Nullable String reason;
+    private final int errorOffset;
+
+    private VersionParseResult(
+            @Nullable String versionStr, @Nullable Version version, @Nullable String reason, int errorOffset) {
+        this.versionStr = versionStr;
+        this.version = version;
+        this.reason = reason;
+        this.errorOffset = errorOffset;
+    }
+
+    public static VersionParseResult success(Version version) {
+        requireNonNull(version, "version must not be null");
+        return new VersionParseResult(null, version, null, -1);
+    }
+
+    public static VersionParseResult failure(String versionStr, String reason) {
+        return failure(versionStr, reason, -1);
+    }
+
+    /**
+     * @param versionStr  The invalid version string
+     * @param reason      The reason why {@code versionStr} is invalid
+     * @param errorOffset Offset of the offending character in {@code versionStr}, or {@code -1} if unknown
+     * @return A failed {@link VersionParseResult}
+     */
+    public static VersionParseResult failure(String versionStr, String reason, int errorOffset) {
+        requireNonNull(versionStr, "versionStr must not be null");
+        requireNonNull(reason, "reason must not be null");
+        return new VersionParseResult(versionStr, null, reason, errorOffset);
+    }
+
+    public boolean isSuccess() {
+        return version != null;
+    }
+
+    /**
+     * @return The parsed {@link Version}, or an empty {@link Optional} if parsing failed
+     */
+    public Optional<Version> version() {
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     * @return The reason why parsing failed, or {@code null} if it succeeded
+     */
+    public @Nullable String reason() {
+        return reason;
+    }
+
+    /**
+     * @return Offset of the offending character in the version string, or {@code -1} if unknown or not applicable
+     */
+    public int errorOffset() {
+        return errorOffset;
+    }
+
+    /**
+     * @return The parsed {@link Version}
+     * @throws InvalidVersionException When parsing failed
+     */
+    public Version orElseThrow() {
+        if (version == null) {
+            throw new InvalidVersionException(requireNonNull(versionStr), requireNonNull(reason));
+        }
+
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return version != null
+                ? "VersionParseResult{version=%s}".formatted(version)
+                : "VersionParseResult{versionStr=%s, reason=%s, errorOffset=%d}"
+                        .formatted(versionStr, reason, errorOffset);
+    }
+}
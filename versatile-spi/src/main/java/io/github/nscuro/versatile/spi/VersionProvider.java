@@ -45,4 +45,23 @@ public interface VersionProvider {
      * @throws InvalidVersionException When {@code versionStr} could not be used to construct a {@link Version}
      */
     Version getVersion(String scheme, String versionStr);
+
+    /**
+     * Attempts to create a {@link Version}, reporting invalid input as a failed result rather than an exception.
+     * <p>
+     * The default implementation delegates to {@link #getVersion(String, String)}.
+     * Providers are encouraged to override it if they can detect invalid input more cheaply.
+     *
+     * @param scheme     The versioning scheme to create a {@link Version} for
+     * @param versionStr The version string to create {@link Version} from
+     * @return A {@link VersionParseResult} holding either the {@link Version}, or the reason why it is invalid
+     * @since 0.24.0
+     */
+    default VersionParseResult tryGetVersion(String scheme, String versionStr) {
+        try {
+            return VersionParseResult.success(getVersion(scheme, versionStr));
+        } catch (InvalidVersionException e) {
+            return VersionParseResult.failure(versionStr, e.reason());
+        }
+    }
 }
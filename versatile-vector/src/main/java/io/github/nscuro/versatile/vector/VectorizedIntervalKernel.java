@@ -0,0 +1,69 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.vector;
+
+import io.github.nscuro.versatile.spi.PackedIntervalKernel;
+import java.util.BitSet;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of {@link PackedIntervalKernel}, using the {@code jdk.incubator.vector} module.
+ * <p>
+ * When running on the class path, the module must be added explicitly using
+ * {@code --add-modules=jdk.incubator.vector}.
+ *
+ * @since 0.24.0
+ */
+public final class VectorizedIntervalKernel implements PackedIntervalKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean isSupported() {
+        return SPECIES.length() > 1;
+    }
+
+    @Override
+    public void match(long key, long[] starts, long[] ends, int[] owners, BitSet result) {
+        final int loopBound = SPECIES.loopBound(starts.length);
+
+        int i = 0;
+        for (; i < loopBound; i += SPECIES.length()) {
+            final VectorMask<Long> hits = LongVector.fromArray(SPECIES, starts, i)
+                    .compare(VectorOperators.LE, key)
+                    .and(LongVector.fromArray(SPECIES, ends, i).compare(VectorOperators.GT, key));
+            if (hits.anyTrue()) {
+                for (int lane = hits.firstTrue(); lane < SPECIES.length(); lane++) {
+                    if (hits.laneIsSet(lane)) {
+                        result.set(owners[i + lane]);
+                    }
+                }
+            }
+        }
+
+        for (; i < starts.length; i++) {
+            if (starts[i] <= key && key < ends[i]) {
+                result.set(owners[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * This file is part of versatile.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright (c) Niklas Düster. All Rights Reserved.
+ */
+package io.github.nscuro.versatile.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.nscuro.versatile.spi.PackedIntervalKernel;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.ServiceLoader;
+import org.junit.jupiter.api.Test;
+
+class VectorizedIntervalKernelTest {
+
+    private final VectorizedIntervalKernel kernel = new VectorizedIntervalKernel();
+
+    @Test
+    void testIsDiscoveredViaServiceLoader() {
+        assertThat(ServiceLoader.load(PackedIntervalKernel.class))
+                .anySatisfy(provider -> assertThat(provider).isInstanceOf(VectorizedIntervalKernel.class));
+    }
+
+    @Test
+    void testMatchAgreesWithScalarLoop() {
+        final var random = new Random(42);
+
+        // Odd interval counts exercise the scalar tail after the last full vector.
+        for (final int intervalCount : new int[] {0, 1, 7, 64, 1001}) {
+            final var starts = new long[intervalCount];
+            final var ends = new long[intervalCount];
+            final var owners = new int[intervalCount];
+            for (int i = 0; i < intervalCount; i++) {
+                starts[i] = random.nextInt(1000);
+                ends[i] = starts[i] + random.nextInt(100);
+                owners[i] = random.nextInt(50);
+            }
+
+            for (long key = 0; key < 1100; key += 7) {
+                final var expected = new BitSet();
+                for (int i = 0; i < intervalCount; i++) {
+                    if (starts[i] <= key && key < ends[i]) {
+                        expected.set(owners[i]);
+                    }
+                }
+
+                final var actual = new BitSet();
+                kernel.match(key, starts, ends, owners, actual);
+                assertThat(actual).isEqualTo(expected);
+            }
+        }
+    }
+}